@@ -0,0 +1,8 @@
+package CreationalDesignPattern.AbstractFactoryDesignPattern;
+
+interface Button {
+    void paint();
+
+    // Appends a draw command instead of painting right away, see WidgetRenderer
+    void record(DrawCommandBuffer commands, int x, int y, int width, int height, String label);
+}
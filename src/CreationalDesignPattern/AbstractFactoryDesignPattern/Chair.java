@@ -0,0 +1,6 @@
+package CreationalDesignPattern.AbstractFactoryDesignPattern;
+
+//Chair interface
+interface Chair extends Furniture {
+    void sitOn();
+}
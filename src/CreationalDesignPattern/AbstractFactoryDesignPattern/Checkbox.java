@@ -0,0 +1,7 @@
+package CreationalDesignPattern.AbstractFactoryDesignPattern;
+
+interface Checkbox {
+    void paint();
+
+    void record(DrawCommandBuffer commands, int x, int y, int width, int height, String label);
+}
@@ -0,0 +1,70 @@
+package CreationalDesignPattern.AbstractFactoryDesignPattern;
+
+import java.util.Arrays;
+
+// Flat list of draw commands, reused from frame to frame. Each command is
+// STRIDE ints: opcode, theme, x, y, width, height. Labels sit in a parallel
+// array at the command's own index.
+class DrawCommandBuffer {
+    public static final int BUTTON = 1;
+    public static final int CHECKBOX = 2;
+
+    private static final int STRIDE = 6;
+    private static final WidgetTheme[] THEMES = WidgetTheme.values();
+
+    private int[] commands = new int[STRIDE * 256];
+    private String[] labels = new String[256];
+    private int size;
+
+    public void add(int opcode, WidgetTheme theme, int x, int y, int width, int height, String label) {
+        if (size == labels.length) {
+            commands = Arrays.copyOf(commands, commands.length * 2);
+            labels = Arrays.copyOf(labels, labels.length * 2);
+        }
+        int base = size * STRIDE;
+        commands[base] = opcode;
+        commands[base + 1] = theme.ordinal();
+        commands[base + 2] = x;
+        commands[base + 3] = y;
+        commands[base + 4] = width;
+        commands[base + 5] = height;
+        labels[size++] = label;
+    }
+
+    public void reset() {
+        Arrays.fill(labels, 0, size, null);
+        size = 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int opcode(int command) {
+        return commands[command * STRIDE];
+    }
+
+    public WidgetTheme theme(int command) {
+        return THEMES[commands[command * STRIDE + 1]];
+    }
+
+    public int x(int command) {
+        return commands[command * STRIDE + 2];
+    }
+
+    public int y(int command) {
+        return commands[command * STRIDE + 3];
+    }
+
+    public int width(int command) {
+        return commands[command * STRIDE + 4];
+    }
+
+    public int height(int command) {
+        return commands[command * STRIDE + 5];
+    }
+
+    public String label(int command) {
+        return labels[command];
+    }
+}
@@ -0,0 +1,5 @@
+package CreationalDesignPattern.AbstractFactoryDesignPattern;
+
+// Common supertype so catalogs can hold either product
+interface Furniture {
+}
@@ -0,0 +1,315 @@
+package CreationalDesignPattern.AbstractFactoryDesignPattern;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class FurnitureCatalogDemo {
+    private static final int ORDERS = 1_000_000;
+
+    public static void main(String[] args) {
+        FurnitureCatalog catalog = new FurnitureCatalog(ForkJoinPool.commonPool());
+        catalog.register(FurnitureStyle.MODERN, new ModernFurnitureFactory());
+        catalog.register(FurnitureStyle.VICTORIAN, new VictorianFurnitureFactory());
+
+        catalog.chair(FurnitureStyle.MODERN).sitOn();
+        catalog.sofa(FurnitureStyle.VICTORIAN).lieOn();
+
+        FurnitureStyle[] styles = FurnitureStyle.values();
+        FurnitureType[] types = FurnitureType.values();
+        Random random = new Random(9);
+        List<FurnitureOrder> orders = new ArrayList<>(ORDERS);
+        for (int i = 0; i < ORDERS; i++) {
+            orders.add(new FurnitureOrder(i, styles[random.nextInt(styles.length)], types[random.nextInt(types.length)],
+                    1 + random.nextInt(4)));
+        }
+
+        // Before: one factory per style, asked for a new product on every order
+        FurnitureFactory modern = new ModernFurnitureFactory();
+        FurnitureFactory victorian = new VictorianFurnitureFactory();
+        double bestNaive = Double.MAX_VALUE;
+        double bestCatalog = Double.MAX_VALUE;
+        for (int round = 0; round < 8; round++) {
+            long start = System.nanoTime();
+            Furniture[] naive = new Furniture[ORDERS];
+            for (int i = 0; i < ORDERS; i++) {
+                FurnitureOrder order = orders.get(i);
+                FurnitureFactory factory = order.getStyle() == FurnitureStyle.MODERN ? modern : victorian;
+                naive[i] = order.getType() == FurnitureType.CHAIR ? factory.createChair() : factory.createSofa();
+            }
+            long naiveNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            Furniture[] fulfilled = catalog.fulfill(orders);
+            long catalogNanos = System.nanoTime() - start;
+
+            for (int i = 0; i < ORDERS; i++) {
+                if (naive[i].getClass() != fulfilled[i].getClass()) {
+                    throw new IllegalStateException("Catalog resolved a different product for " + orders.get(i));
+                }
+            }
+            System.out.printf("factory per order %5.1f ns/order, catalog.fulfill %5.1f ns/order%n",
+                    naiveNanos / (double) ORDERS, catalogNanos / (double) ORDERS);
+            bestNaive = Math.min(bestNaive, naiveNanos / (double) ORDERS);
+            bestCatalog = Math.min(bestCatalog, catalogNanos / (double) ORDERS);
+        }
+        System.out.println(catalog);
+        // Best rounds are compared so a stray GC pause in one round does not decide the outcome
+        if (bestCatalog > bestNaive) {
+            throw new IllegalStateException(String.format(
+                    "catalog.fulfill (%.1f ns/order) is slower than a factory call per order (%.1f ns/order)",
+                    bestCatalog, bestNaive));
+        }
+
+        // A batch with an unregistered style is rejected before any order is counted
+        FurnitureCatalog modernOnly = new FurnitureCatalog(ForkJoinPool.commonPool());
+        modernOnly.register(FurnitureStyle.MODERN, modern);
+        try {
+            modernOnly.fulfill(orders);
+            throw new IllegalStateException("Expected the VICTORIAN orders to be rejected");
+        } catch (IllegalArgumentException expected) {
+            System.out.println("Rejected: " + expected.getMessage());
+        }
+        if (modernOnly.getUnitsShipped(FurnitureStyle.MODERN, FurnitureType.CHAIR) != 0) {
+            throw new IllegalStateException("A rejected batch must not ship anything");
+        }
+    }
+}
+
+enum FurnitureStyle {
+    MODERN, VICTORIAN
+}
+
+enum FurnitureType {
+    CHAIR, SOFA
+}
+
+class FurnitureOrder {
+    private final long orderId;
+    private final FurnitureStyle style;
+    private final FurnitureType type;
+    private final int quantity;
+
+    public FurnitureOrder(long orderId, FurnitureStyle style, FurnitureType type, int quantity) {
+        this.orderId = orderId;
+        this.style = style;
+        this.type = type;
+        this.quantity = quantity;
+    }
+
+    public long getOrderId() {
+        return orderId;
+    }
+
+    public FurnitureStyle getStyle() {
+        return style;
+    }
+
+    public FurnitureType getType() {
+        return type;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    @Override
+    public String toString() {
+        return "FurnitureOrder [orderId=" + orderId + ", style=" + style + ", type=" + type + ", quantity="
+                + quantity + "]";
+    }
+}
+
+// Indexes every registered FurnitureFactory family by [style][type]. The
+// products in this package are stateless, so each factory is asked for one
+// instance per product type and that prototype is shared by every order.
+// Factories registered as stateful are called per order instead. Register
+// the families before the catalog is shared between threads.
+class FurnitureCatalog {
+    private static final int CHUNK = 16_384;
+    // Below this, grouping and forking cost more than they save
+    private static final int SEQUENTIAL_THRESHOLD = 4 * CHUNK;
+
+    private final ForkJoinPool pool;
+    private final FurnitureFactory[] factories = new FurnitureFactory[FurnitureStyle.values().length];
+    private final Furniture[][] prototypes = new Furniture[FurnitureStyle.values().length][FurnitureType.values().length];
+    private final AtomicLongArray unitsShipped = new AtomicLongArray(
+            FurnitureStyle.values().length * FurnitureType.values().length);
+
+    public FurnitureCatalog(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public void register(FurnitureStyle style, FurnitureFactory factory) {
+        register(style, factory, true);
+    }
+
+    public void register(FurnitureStyle style, FurnitureFactory factory, boolean statelessProducts) {
+        Furniture[] row = new Furniture[FurnitureType.values().length];
+        if (statelessProducts) {
+            row[FurnitureType.CHAIR.ordinal()] = factory.createChair();
+            row[FurnitureType.SOFA.ordinal()] = factory.createSofa();
+        }
+        factories[style.ordinal()] = factory;
+        prototypes[style.ordinal()] = row;
+    }
+
+    public Chair chair(FurnitureStyle style) {
+        return (Chair) get(style, FurnitureType.CHAIR);
+    }
+
+    public Sofa sofa(FurnitureStyle style) {
+        return (Sofa) get(style, FurnitureType.SOFA);
+    }
+
+    public Furniture get(FurnitureStyle style, FurnitureType type) {
+        Furniture prototype = prototypes[style.ordinal()][type.ordinal()];
+        if (prototype != null) {
+            return prototype;
+        }
+        FurnitureFactory factory = factories[style.ordinal()];
+        if (factory == null) {
+            throw new IllegalArgumentException("No factory registered for " + style);
+        }
+        return type == FurnitureType.CHAIR ? factory.createChair() : factory.createSofa();
+    }
+
+    public long getUnitsShipped(FurnitureStyle style, FurnitureType type) {
+        return unitsShipped.get(style.ordinal() * FurnitureType.values().length + type.ordinal());
+    }
+
+    // Returns the product for each order, in order. Small batches, or any batch
+    // on a single-threaded pool, are resolved in one pass on the caller. Larger
+    // ones are grouped by style with a counting sort, and the groups (split
+    // further when large) are resolved in parallel on the pool. A batch
+    // containing a style without a registered factory is rejected before
+    // anything is shipped.
+    public Furniture[] fulfill(List<FurnitureOrder> orderList) {
+        if (orderList.size() <= SEQUENTIAL_THRESHOLD || pool.getParallelism() == 1) {
+            return fulfillSequentially(orderList);
+        }
+        // Indexed access below must be O(1) whatever kind of list the caller passed
+        FurnitureOrder[] orders = orderList.toArray(new FurnitureOrder[0]);
+        int styles = FurnitureStyle.values().length;
+        int[] groupStart = new int[styles + 1];
+        for (FurnitureOrder order : orders) {
+            groupStart[order.getStyle().ordinal() + 1]++;
+        }
+        for (int s = 0; s < styles; s++) {
+            if (groupStart[s + 1] > 0 && factories[s] == null) {
+                throw new IllegalArgumentException("No factory registered for " + FurnitureStyle.values()[s]);
+            }
+            groupStart[s + 1] += groupStart[s];
+        }
+        int[] byStyle = new int[orders.length];
+        int[] next = groupStart.clone();
+        for (int i = 0; i < orders.length; i++) {
+            byStyle[next[orders[i].getStyle().ordinal()]++] = i;
+        }
+
+        Furniture[] results = new Furniture[orders.length];
+        List<StyleGroupTask> groups = new ArrayList<>();
+        for (int s = 0; s < styles; s++) {
+            if (groupStart[s] < groupStart[s + 1]) {
+                groups.add(new StyleGroupTask(orders, byStyle, results, FurnitureStyle.values()[s], groupStart[s],
+                        groupStart[s + 1]));
+            }
+        }
+        pool.invoke(new RecursiveAction() {
+            private static final long serialVersionUID = 1L;
+
+            @Override
+            protected void compute() {
+                invokeAll(groups);
+            }
+        });
+        return results;
+    }
+
+    private Furniture[] fulfillSequentially(List<FurnitureOrder> orderList) {
+        int types = FurnitureType.values().length;
+        Furniture[] results = new Furniture[orderList.size()];
+        long[] units = new long[unitsShipped.length()];
+        int i = 0;
+        for (FurnitureOrder order : orderList) {
+            int style = order.getStyle().ordinal();
+            int type = order.getType().ordinal();
+            Furniture product = prototypes[style][type];
+            if (product == null) {
+                product = get(order.getStyle(), order.getType());
+            }
+            results[i++] = product;
+            units[style * types + type] += order.getQuantity();
+        }
+        // Counted only once the whole batch resolved, so a rejected batch ships nothing
+        for (int slot = 0; slot < units.length; slot++) {
+            if (units[slot] != 0) {
+                unitsShipped.addAndGet(slot, units[slot]);
+            }
+        }
+        return results;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("FurnitureCatalog [shipped:");
+        for (FurnitureStyle style : FurnitureStyle.values()) {
+            for (FurnitureType type : FurnitureType.values()) {
+                sb.append(' ').append(style).append(' ').append(type).append('=')
+                        .append(getUnitsShipped(style, type));
+            }
+        }
+        return sb.append(']').toString();
+    }
+
+    // Resolves byStyle[from, to), all orders of one style
+    private final class StyleGroupTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient FurnitureOrder[] orders;
+        private final int[] byStyle;
+        private final Furniture[] results;
+        private final FurnitureStyle style;
+        private final int from;
+        private final int to;
+
+        StyleGroupTask(FurnitureOrder[] orders, int[] byStyle, Furniture[] results, FurnitureStyle style,
+                int from, int to) {
+            this.orders = orders;
+            this.byStyle = byStyle;
+            this.results = results;
+            this.style = style;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > CHUNK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new StyleGroupTask(orders, byStyle, results, style, from, middle),
+                        new StyleGroupTask(orders, byStyle, results, style, middle, to));
+                return;
+            }
+            Furniture[] row = prototypes[style.ordinal()];
+            FurnitureFactory factory = factories[style.ordinal()];
+            long[] units = new long[row.length];
+            for (int i = from; i < to; i++) {
+                FurnitureOrder order = orders[byStyle[i]];
+                int type = order.getType().ordinal();
+                Furniture product = row[type];
+                if (product == null) {
+                    product = type == FurnitureType.CHAIR.ordinal() ? factory.createChair() : factory.createSofa();
+                }
+                results[byStyle[i]] = product;
+                units[type] += order.getQuantity();
+            }
+            for (int type = 0; type < units.length; type++) {
+                unitsShipped.addAndGet(style.ordinal() * row.length + type, units[type]);
+            }
+        }
+    }
+}
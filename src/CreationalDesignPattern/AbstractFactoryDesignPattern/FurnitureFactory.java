@@ -0,0 +1,7 @@
+package CreationalDesignPattern.AbstractFactoryDesignPattern;
+
+interface FurnitureFactory {
+    Chair createChair();
+
+    Sofa createSofa();
+}
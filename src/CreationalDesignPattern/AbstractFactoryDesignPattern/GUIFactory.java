@@ -0,0 +1,10 @@
+package CreationalDesignPattern.AbstractFactoryDesignPattern;
+
+// 1.You define an Abstract Factory interface declaring creation methods for
+// each kind of product.
+
+interface GUIFactory {
+    Button createButton();
+
+    Checkbox createCheckbox();
+}
@@ -27,71 +27,4 @@ public class GraphicApplication {
         GraphicApplication app = new GraphicApplication(factory);
         app.paint();
     }
-}
-
-interface Button {
-    void paint();
-}
-
-interface Checkbox {
-    void paint();
-}
-
-// concret for Windows
-class WindowsButton implements Button {
-    public void paint() {
-        System.out.println("Rendering a Windows button.");
-    }
-}
-
-class WindowsCheckbox implements Checkbox {
-    public void paint() {
-        System.out.println("Rendering a Windows checkbox.");
-    }
-}
-
-// concret for Macos
-
-class MacOSButton implements Button {
-    public void paint() {
-        System.out.println("Rendering a MacOS button.");
-    }
-}
-
-class MacOSCheckbox implements Checkbox {
-    public void paint() {
-        System.out.println("Rendering a MacOS checkbox.");
-    }
-}
-
-// 1.You define an Abstract Factory interface declaring creation methods for
-// each kind of product.
-
-interface GUIFactory {
-    Button createButton();
-
-    Checkbox createCheckbox();
-}
-
-// 2.You create Concrete Factories, each implementing the Abstract Factory and
-// producing a particular family (variant) of products.
-
-class WindowsFactory implements GUIFactory {
-    public Button createButton() {
-        return new WindowsButton();
-    }
-
-    public Checkbox createCheckbox() {
-        return new WindowsCheckbox();
-    }
-}
-
-class MacOSFactory implements GUIFactory {
-    public Button createButton() {
-        return new MacOSButton();
-    }
-
-    public Checkbox createCheckbox() {
-        return new MacOSCheckbox();
-    }
 }
\ No newline at end of file
@@ -0,0 +1,13 @@
+package CreationalDesignPattern.AbstractFactoryDesignPattern;
+
+// concret for Macos
+
+class MacOSButton implements Button {
+    public void paint() {
+        System.out.println("Rendering a MacOS button.");
+    }
+
+    public void record(DrawCommandBuffer commands, int x, int y, int width, int height, String label) {
+        commands.add(DrawCommandBuffer.BUTTON, WidgetTheme.MACOS, x, y, width, height, label);
+    }
+}
@@ -0,0 +1,11 @@
+package CreationalDesignPattern.AbstractFactoryDesignPattern;
+
+class MacOSCheckbox implements Checkbox {
+    public void paint() {
+        System.out.println("Rendering a MacOS checkbox.");
+    }
+
+    public void record(DrawCommandBuffer commands, int x, int y, int width, int height, String label) {
+        commands.add(DrawCommandBuffer.CHECKBOX, WidgetTheme.MACOS, x, y, width, height, label);
+    }
+}
@@ -0,0 +1,11 @@
+package CreationalDesignPattern.AbstractFactoryDesignPattern;
+
+class MacOSFactory implements GUIFactory {
+    public Button createButton() {
+        return new MacOSButton();
+    }
+
+    public Checkbox createCheckbox() {
+        return new MacOSCheckbox();
+    }
+}
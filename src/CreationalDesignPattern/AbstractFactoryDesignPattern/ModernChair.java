@@ -0,0 +1,8 @@
+package CreationalDesignPattern.AbstractFactoryDesignPattern;
+
+class ModernChair implements Chair {
+    @Override
+    public void sitOn() {
+        System.out.println("Sitting on a modern chair");
+    }
+}
@@ -0,0 +1,13 @@
+package CreationalDesignPattern.AbstractFactoryDesignPattern;
+
+class ModernFurnitureFactory implements FurnitureFactory {
+    @Override
+    public Chair createChair() {
+        return new ModernChair();
+    }
+
+    @Override
+    public Sofa createSofa() {
+        return new ModernSofa();
+    }
+}
@@ -0,0 +1,8 @@
+package CreationalDesignPattern.AbstractFactoryDesignPattern;
+
+class ModernSofa implements Sofa {
+    @Override
+    public void lieOn() {
+        System.out.println("Lying on a modern sofa");
+    }
+}
@@ -0,0 +1,6 @@
+package CreationalDesignPattern.AbstractFactoryDesignPattern;
+
+// Sofa interface
+interface Sofa extends Furniture {
+    void lieOn();
+}
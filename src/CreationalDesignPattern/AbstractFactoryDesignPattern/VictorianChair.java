@@ -0,0 +1,8 @@
+package CreationalDesignPattern.AbstractFactoryDesignPattern;
+
+class VictorianChair implements Chair {
+    @Override
+    public void sitOn() {
+        System.out.println("Sitting on an antique Victorian chair");
+    }
+}
@@ -0,0 +1,13 @@
+package CreationalDesignPattern.AbstractFactoryDesignPattern;
+
+class VictorianFurnitureFactory implements FurnitureFactory {
+    @Override
+    public Chair createChair() {
+        return new VictorianChair();
+    }
+
+    @Override
+    public Sofa createSofa() {
+        return new VictorianSofa();
+    }
+}
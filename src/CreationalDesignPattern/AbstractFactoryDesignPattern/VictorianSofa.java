@@ -0,0 +1,8 @@
+package CreationalDesignPattern.AbstractFactoryDesignPattern;
+
+class VictorianSofa implements Sofa {
+    @Override
+    public void lieOn() {
+        System.out.println("Lying on a plush Victorian sofa");
+    }
+}
@@ -0,0 +1,301 @@
+package CreationalDesignPattern.AbstractFactoryDesignPattern;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+public class WidgetRasterizerDemo {
+    private static final int WIDTH = 3840;
+    private static final int HEIGHT = 2160;
+    private static final int WIDGETS = 5_000;
+    private static final int FRAMES = 20;
+
+    public static void main(String[] args) throws IOException {
+        Path output = args.length > 0 ? Paths.get(args[0]) : Files.createTempFile("widgets", ".bmp");
+
+        // A 4K screen of widgets from both factories, recorded the same way WidgetRenderer does
+        DrawCommandBuffer commands = new DrawCommandBuffer();
+        GUIFactory[] factories = { new WindowsFactory(), new MacOSFactory() };
+        Random random = new Random(5);
+        for (int i = 0; i < WIDGETS; i++) {
+            GUIFactory factory = factories[i % 2];
+            int x = random.nextInt(WIDTH - 100);
+            int y = random.nextInt(HEIGHT - 30);
+            if (random.nextBoolean()) {
+                factory.createButton().record(commands, x, y, 60 + random.nextInt(80), 24, "Button " + i);
+            } else {
+                factory.createCheckbox().record(commands, x, y, 90 + random.nextInt(60), 18, "Option " + i);
+            }
+        }
+
+        int parallelism = ForkJoinPool.commonPool().getParallelism();
+        WidgetRasterizer parallel = new WidgetRasterizer(WIDTH, HEIGHT, 128, ForkJoinPool.commonPool());
+        WidgetRasterizer single = new WidgetRasterizer(WIDTH, HEIGHT, 128, new ForkJoinPool(1));
+        for (int round = 0; round < 3; round++) {
+            long singleNanos = time(single, commands);
+            long parallelNanos = time(parallel, commands);
+            System.out.printf("%dx%d, %d widgets: 1 thread %5.1f ms/frame, %d threads %5.1f ms/frame (%.1f frames/s)%n",
+                    WIDTH, HEIGHT, commands.size(), singleNanos / 1e6, parallelism, parallelNanos / 1e6,
+                    1e9 / parallelNanos);
+        }
+        if (!Arrays.equals(parallel.render(commands), single.render(commands))) {
+            throw new IllegalStateException("Parallel and single-threaded output differ");
+        }
+        WidgetRasterizer.writeBmp(parallel.render(commands), WIDTH, HEIGHT, output);
+        System.out.println("Wrote " + output + " (" + Files.size(output) + " bytes)");
+
+        boolean rejected = false;
+        try {
+            new WidgetRasterizer(40_000, 40_000, 128, ForkJoinPool.commonPool());
+        } catch (IllegalArgumentException e) {
+            System.out.println("Rejected: " + e.getMessage());
+            rejected = true;
+        }
+        if (!rejected) {
+            throw new IllegalStateException("Expected a canvas too large for an int[] to be rejected");
+        }
+    }
+
+    private static long time(WidgetRasterizer rasterizer, DrawCommandBuffer commands) {
+        long start = System.nanoTime();
+        for (int frame = 0; frame < FRAMES; frame++) {
+            rasterizer.render(commands);
+        }
+        return (System.nanoTime() - start) / FRAMES;
+    }
+}
+
+// Off-screen renderer for recorded widget commands. The canvas is cut into
+// square tiles; commands are first binned into the tiles they overlap, then
+// fork/join tasks rasterize whole tiles in a per-thread scratch buffer and
+// copy the finished rows into the ARGB canvas. Tiles never share pixels, so
+// no locking is needed, and each tile draws its commands in recording order.
+// A rasterizer renders one frame at a time.
+class WidgetRasterizer {
+    private static final int BACKGROUND = 0xFFF3F3F3;
+    private static final int TEXT = 0xFF1F1F1F;
+    private static final int GLYPH_WIDTH = 5;
+    private static final int GLYPH_HEIGHT = 7;
+    private static final int GLYPH_ADVANCE = 6;
+
+    private final int width;
+    private final int height;
+    private final int tileSize;
+    private final int tilesX;
+    private final int tilesY;
+    private final ForkJoinPool pool;
+    private final int[] canvas;
+    private final int[][] bins;
+    private final int[] binCounts;
+    private final ThreadLocal<int[]> scratch;
+
+    public WidgetRasterizer(int width, int height, int tileSize, ForkJoinPool pool) {
+        if (width <= 0 || height <= 0 || tileSize <= 0) {
+            throw new IllegalArgumentException("Width, height and tileSize must be positive");
+        }
+        // The canvas and each tile's scratch buffer are int arrays, and writeBmp needs 4 bytes per pixel
+        if ((long) width * height * 4 > Integer.MAX_VALUE || (long) tileSize * tileSize > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Canvas of " + width + "x" + height + " with " + tileSize
+                    + " pixel tiles is too large");
+        }
+        this.width = width;
+        this.height = height;
+        this.tileSize = tileSize;
+        this.tilesX = (width + tileSize - 1) / tileSize;
+        this.tilesY = (height + tileSize - 1) / tileSize;
+        this.pool = pool;
+        this.canvas = new int[width * height];
+        this.bins = new int[tilesX * tilesY][16];
+        this.binCounts = new int[tilesX * tilesY];
+        this.scratch = ThreadLocal.withInitial(() -> new int[tileSize * tileSize]);
+    }
+
+    // Returns the canvas, which is overwritten by the next call
+    public int[] render(DrawCommandBuffer commands) {
+        bin(commands);
+        pool.invoke(new TileTask(commands, 0, tilesX * tilesY));
+        return canvas;
+    }
+
+    // Uncompressed 32-bit BMP, stored top-down
+    public static void writeBmp(int[] pixels, int width, int height, Path file) throws IOException {
+        int imageBytes = width * height * 4;
+        ByteBuffer header = ByteBuffer.allocate(54).order(ByteOrder.LITTLE_ENDIAN);
+        header.put((byte) 'B').put((byte) 'M').putInt(54 + imageBytes).putInt(0).putInt(54);
+        header.putInt(40).putInt(width).putInt(-height).putShort((short) 1).putShort((short) 32).putInt(0)
+                .putInt(imageBytes).putInt(2835).putInt(2835).putInt(0).putInt(0);
+        header.flip();
+
+        ByteBuffer rows = ByteBuffer.allocateDirect(width * 4 * 64).order(ByteOrder.LITTLE_ENDIAN);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(header);
+            for (int y = 0; y < height; y += 64) {
+                rows.clear();
+                // Little-endian ARGB ints are exactly the B, G, R, A bytes BMP expects
+                rows.asIntBuffer().put(pixels, y * width, Math.min(64, height - y) * width);
+                rows.limit(Math.min(64, height - y) * width * 4);
+                while (rows.hasRemaining()) {
+                    channel.write(rows);
+                }
+            }
+        }
+    }
+
+    private void bin(DrawCommandBuffer commands) {
+        Arrays.fill(binCounts, 0);
+        for (int c = 0; c < commands.size(); c++) {
+            int x0 = Math.max(0, commands.x(c));
+            int y0 = Math.max(0, commands.y(c));
+            int x1 = Math.min(width, commands.x(c) + commands.width(c));
+            int y1 = Math.min(height, commands.y(c) + commands.height(c));
+            if (x0 >= x1 || y0 >= y1) {
+                continue; // off screen
+            }
+            for (int ty = y0 / tileSize; ty <= (y1 - 1) / tileSize; ty++) {
+                for (int tx = x0 / tileSize; tx <= (x1 - 1) / tileSize; tx++) {
+                    int tile = ty * tilesX + tx;
+                    if (binCounts[tile] == bins[tile].length) {
+                        bins[tile] = Arrays.copyOf(bins[tile], bins[tile].length * 2);
+                    }
+                    bins[tile][binCounts[tile]++] = c;
+                }
+            }
+        }
+    }
+
+    private void renderTile(DrawCommandBuffer commands, int tile) {
+        int[] pixels = scratch.get();
+        int originX = (tile % tilesX) * tileSize;
+        int originY = (tile / tilesX) * tileSize;
+        int tileWidth = Math.min(tileSize, width - originX);
+        int tileHeight = Math.min(tileSize, height - originY);
+        Tile target = new Tile(pixels, originX, originY, tileWidth, tileHeight);
+
+        Arrays.fill(pixels, BACKGROUND);
+        int[] bin = bins[tile];
+        for (int i = 0; i < binCounts[tile]; i++) {
+            drawWidget(target, commands, bin[i]);
+        }
+        for (int row = 0; row < tileHeight; row++) {
+            System.arraycopy(pixels, row * tileSize, canvas, (originY + row) * width + originX, tileWidth);
+        }
+    }
+
+    private void drawWidget(Tile tile, DrawCommandBuffer commands, int c) {
+        int x = commands.x(c);
+        int y = commands.y(c);
+        int w = commands.width(c);
+        int h = commands.height(c);
+        boolean mac = commands.theme(c) == WidgetTheme.MACOS;
+
+        int textX;
+        if (commands.opcode(c) == DrawCommandBuffer.BUTTON) {
+            if (mac) {
+                // Light vertical gradient with a softer border
+                for (int row = 0; row < h; row++) {
+                    int shade = 0xFF - row * 0x18 / Math.max(1, h - 1);
+                    tile.fill(x, y + row, x + w, y + row + 1, 0xFF000000 | shade << 16 | shade << 8 | shade);
+                }
+                tile.outline(x, y, x + w, y + h, 0xFFB0B0B0);
+            } else {
+                tile.fill(x, y, x + w, y + h, 0xFFE1E1E1);
+                tile.outline(x, y, x + w, y + h, 0xFFADADAD);
+            }
+            textX = x + 6;
+        } else {
+            int box = Math.min(h, 14);
+            int boxY = y + (h - box) / 2;
+            tile.fill(x, boxY, x + box, boxY + box, 0xFFFFFFFF);
+            tile.outline(x, boxY, x + box, boxY + box, mac ? 0xFF8E8E93 : 0xFF333333);
+            textX = x + box + 5;
+        }
+        drawLabel(tile, commands.label(c), textX, y + (h - GLYPH_HEIGHT) / 2, x + w);
+    }
+
+    // Thumbnail-sized "greeked" text: one block per visible character
+    private void drawLabel(Tile tile, String label, int x, int y, int right) {
+        for (int i = 0; i < label.length() && x + GLYPH_WIDTH <= right; i++, x += GLYPH_ADVANCE) {
+            char ch = label.charAt(i);
+            if (ch == ' ') {
+                continue;
+            }
+            // Lowercase letters are shorter than capitals and digits
+            int top = Character.isLowerCase(ch) ? y + 2 : y;
+            tile.fill(x, top, x + GLYPH_WIDTH, y + GLYPH_HEIGHT, TEXT);
+        }
+    }
+
+    // Clipping view onto the scratch buffer of the tile being drawn
+    private final class Tile {
+        final int[] pixels;
+        final int originX;
+        final int originY;
+        final int tileWidth;
+        final int tileHeight;
+
+        Tile(int[] pixels, int originX, int originY, int tileWidth, int tileHeight) {
+            this.pixels = pixels;
+            this.originX = originX;
+            this.originY = originY;
+            this.tileWidth = tileWidth;
+            this.tileHeight = tileHeight;
+        }
+
+        // Fills [x0, x1) x [y0, y1) in canvas coordinates
+        void fill(int x0, int y0, int x1, int y1, int color) {
+            int left = Math.max(x0 - originX, 0);
+            int right = Math.min(x1 - originX, tileWidth);
+            int top = Math.max(y0 - originY, 0);
+            int bottom = Math.min(y1 - originY, tileHeight);
+            if (left >= right) {
+                return;
+            }
+            for (int row = top; row < bottom; row++) {
+                Arrays.fill(pixels, row * tileSize + left, row * tileSize + right, color);
+            }
+        }
+
+        void outline(int x0, int y0, int x1, int y1, int color) {
+            fill(x0, y0, x1, y0 + 1, color);
+            fill(x0, y1 - 1, x1, y1, color);
+            fill(x0, y0, x0 + 1, y1, color);
+            fill(x1 - 1, y0, x1, y1, color);
+        }
+    }
+
+    private final class TileTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient DrawCommandBuffer commands;
+        private final int from;
+        private final int to;
+
+        TileTask(DrawCommandBuffer commands, int from, int to) {
+            this.commands = commands;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= 4) {
+                for (int tile = from; tile < to; tile++) {
+                    renderTile(commands, tile);
+                }
+                return;
+            }
+            int middle = (from + to) >>> 1;
+            invokeAll(new TileTask(commands, from, middle), new TileTask(commands, middle, to));
+        }
+    }
+}
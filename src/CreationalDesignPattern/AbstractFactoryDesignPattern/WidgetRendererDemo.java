@@ -0,0 +1,265 @@
+package CreationalDesignPattern.AbstractFactoryDesignPattern;
+
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.Random;
+
+public class WidgetRendererDemo {
+    private static final int WIDGETS = 5_000;
+    private static final int FRAMES = 200;
+
+    public static void main(String[] args) throws IOException {
+        WidgetRenderer console = new WidgetRenderer(new WindowsFactory(), Channels.newChannel(System.out));
+        int ok = console.addButton(10, 10, 80, 24, "OK");
+        console.addCheckbox(10, 40, 120, 20, "Remember me");
+        console.renderFrame();
+        console.setLabel(ok, "Sign in");
+        console.renderFrame(); // only the button changed
+        console.renderFrame(); // nothing changed, nothing written
+        // Ids past the last widget and null labels are rejected, not silently stored
+        try {
+            console.moveTo(console.getWidgetCount(), 0, 0);
+            throw new IllegalStateException("Expected an unknown widget id to be rejected");
+        } catch (IndexOutOfBoundsException expected) {
+            System.out.println("Rejected: " + expected.getMessage());
+        }
+        try {
+            console.setLabel(ok, null);
+            throw new IllegalStateException("Expected a null label to be rejected");
+        } catch (NullPointerException expected) {
+            System.out.println("Rejected: " + expected.getMessage());
+        }
+
+        Path naiveFile = Files.createTempFile("widgets-naive", ".txt");
+        Path bufferedFile = Files.createTempFile("widgets-buffered", ".txt");
+        naiveFile.toFile().deleteOnExit();
+        bufferedFile.toFile().deleteOnExit();
+
+        GUIFactory factory = new MacOSFactory();
+        Button[] buttons = new Button[WIDGETS / 2];
+        Checkbox[] checkboxes = new Checkbox[WIDGETS / 2];
+        try (FileChannel channel = FileChannel.open(bufferedFile, StandardOpenOption.WRITE)) {
+            WidgetRenderer renderer = new WidgetRenderer(factory, channel);
+            for (int i = 0; i < WIDGETS / 2; i++) {
+                buttons[i] = factory.createButton();
+                checkboxes[i] = factory.createCheckbox();
+                renderer.addButton((i % 50) * 40, (i / 50) * 30, 36, 24, "Button " + i);
+                renderer.addCheckbox((i % 50) * 40, (i / 50) * 30 + 2000, 36, 20, "Option " + i);
+            }
+
+            // Every paint() is its own println on a synchronized, auto-flushing stream
+            PrintStream console0 = System.out;
+            long start = System.nanoTime();
+            try (PrintStream out = new PrintStream(new FileOutputStream(naiveFile.toFile()), true)) {
+                System.setOut(out);
+                for (int frame = 0; frame < FRAMES; frame++) {
+                    for (int i = 0; i < buttons.length; i++) {
+                        buttons[i].paint();
+                        checkboxes[i].paint();
+                    }
+                }
+            } finally {
+                System.setOut(console0);
+            }
+            long naiveNanos = System.nanoTime() - start;
+
+            // Same frames through the command buffer: the first one draws everything,
+            // later ones only the 1% of widgets an interaction changed
+            Random random = new Random(3);
+            long commands = 0;
+            start = System.nanoTime();
+            for (int frame = 0; frame < FRAMES; frame++) {
+                for (int i = 0; frame > 0 && i < WIDGETS / 100; i++) {
+                    int widget = random.nextInt(WIDGETS);
+                    renderer.moveTo(widget, renderer.getX(widget) + 1, renderer.getY(widget));
+                }
+                commands += renderer.renderFrame();
+            }
+            long bufferedNanos = System.nanoTime() - start;
+            long bufferedBytes = channel.position();
+
+            start = System.nanoTime();
+            for (int frame = 0; frame < FRAMES; frame++) {
+                renderer.invalidateAll();
+                renderer.renderFrame();
+            }
+            long fullFrameNanos = (System.nanoTime() - start) / FRAMES;
+
+            System.out.printf("%d widgets, %d frames%n", WIDGETS, FRAMES);
+            System.out.printf("paint() per widget:       %7.3f ms/frame, %,d bytes%n",
+                    naiveNanos / 1e6 / FRAMES, Files.size(naiveFile));
+            System.out.printf("command buffer + dirty:   %7.3f ms/frame, %,d bytes, %,d commands%n",
+                    bufferedNanos / 1e6 / FRAMES, bufferedBytes, commands);
+            System.out.printf("command buffer, full redraw: %6.3f ms/frame%n", fullFrameNanos / 1e6);
+        }
+    }
+}
+
+// Same signature as Button.record and Checkbox.record
+interface WidgetRecorder {
+    void record(DrawCommandBuffer commands, int x, int y, int width, int height, String label);
+}
+
+// Retained-mode renderer for the widgets of one GUIFactory. Widget geometry
+// lives in parallel arrays; changes only mark the widget dirty. renderFrame()
+// lets each dirty widget record its draw command, then writes the whole frame
+// to the channel at once instead of one console call per widget.
+class WidgetRenderer {
+    private final GUIFactory factory;
+    private final WritableByteChannel out;
+    private final DrawCommandBuffer commands = new DrawCommandBuffer();
+    private final BitSet dirty = new BitSet();
+    private final StringBuilder text = new StringBuilder(4096);
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder();
+    private ByteBuffer bytes = ByteBuffer.allocateDirect(64 * 1024);
+
+    private WidgetRecorder[] widgets = new WidgetRecorder[64];
+    private int[] xs = new int[64];
+    private int[] ys = new int[64];
+    private int[] widths = new int[64];
+    private int[] heights = new int[64];
+    private String[] labels = new String[64];
+    private int count;
+    private long frame;
+
+    public WidgetRenderer(GUIFactory factory, WritableByteChannel out) {
+        this.factory = factory;
+        this.out = out;
+    }
+
+    // Returns the widget id
+    public int addButton(int x, int y, int width, int height, String label) {
+        return add(factory.createButton()::record, x, y, width, height, label);
+    }
+
+    public int addCheckbox(int x, int y, int width, int height, String label) {
+        return add(factory.createCheckbox()::record, x, y, width, height, label);
+    }
+
+    public void moveTo(int widget, int x, int y) {
+        Objects.checkIndex(widget, count);
+        if (xs[widget] != x || ys[widget] != y) {
+            xs[widget] = x;
+            ys[widget] = y;
+            dirty.set(widget);
+        }
+    }
+
+    public void resize(int widget, int width, int height) {
+        Objects.checkIndex(widget, count);
+        if (widths[widget] != width || heights[widget] != height) {
+            widths[widget] = width;
+            heights[widget] = height;
+            dirty.set(widget);
+        }
+    }
+
+    public void setLabel(int widget, String label) {
+        Objects.checkIndex(widget, count);
+        Objects.requireNonNull(label, "label");
+        if (!label.equals(labels[widget])) {
+            labels[widget] = label;
+            dirty.set(widget);
+        }
+    }
+
+    public void invalidateAll() {
+        dirty.set(0, count);
+    }
+
+    public int getX(int widget) {
+        return xs[Objects.checkIndex(widget, count)];
+    }
+
+    public int getY(int widget) {
+        return ys[Objects.checkIndex(widget, count)];
+    }
+
+    public int getWidgetCount() {
+        return count;
+    }
+
+    // Records every widget, dirty or not, e.g. for an off-screen renderer
+    public void recordAll(DrawCommandBuffer target) {
+        for (int i = 0; i < count; i++) {
+            widgets[i].record(target, xs[i], ys[i], widths[i], heights[i], labels[i]);
+        }
+    }
+
+    // Returns the number of widgets drawn; a frame with nothing dirty writes nothing
+    public int renderFrame() throws IOException {
+        commands.reset();
+        for (int i = dirty.nextSetBit(0); i >= 0; i = dirty.nextSetBit(i + 1)) {
+            widgets[i].record(commands, xs[i], ys[i], widths[i], heights[i], labels[i]);
+        }
+        dirty.clear();
+        frame++;
+        if (commands.size() > 0) {
+            flush();
+        }
+        return commands.size();
+    }
+
+    private int add(WidgetRecorder widget, int x, int y, int width, int height, String label) {
+        Objects.requireNonNull(label, "label");
+        if (count == widgets.length) {
+            int capacity = count * 2;
+            widgets = Arrays.copyOf(widgets, capacity);
+            xs = Arrays.copyOf(xs, capacity);
+            ys = Arrays.copyOf(ys, capacity);
+            widths = Arrays.copyOf(widths, capacity);
+            heights = Arrays.copyOf(heights, capacity);
+            labels = Arrays.copyOf(labels, capacity);
+        }
+        int id = count++;
+        widgets[id] = widget;
+        xs[id] = x;
+        ys[id] = y;
+        widths[id] = width;
+        heights[id] = height;
+        labels[id] = label;
+        dirty.set(id);
+        return id;
+    }
+
+    private void flush() throws IOException {
+        text.setLength(0);
+        text.append("Frame ").append(frame).append(": ").append(commands.size()).append(" widgets\n");
+        for (int i = 0; i < commands.size(); i++) {
+            text.append("Rendering a ").append(commands.theme(i).getDisplayName())
+                    .append(commands.opcode(i) == DrawCommandBuffer.BUTTON ? " button" : " checkbox")
+                    .append(" '").append(commands.label(i)).append("' at ").append(commands.x(i)).append(',')
+                    .append(commands.y(i)).append(' ').append(commands.width(i)).append('x')
+                    .append(commands.height(i)).append('\n');
+        }
+        while (true) {
+            bytes.clear();
+            encoder.reset();
+            CoderResult result = encoder.encode(CharBuffer.wrap(text), bytes, true);
+            if (!result.isOverflow()) {
+                encoder.flush(bytes);
+                break;
+            }
+            bytes = ByteBuffer.allocateDirect(bytes.capacity() * 2);
+        }
+        bytes.flip();
+        while (bytes.hasRemaining()) {
+            out.write(bytes);
+        }
+    }
+}
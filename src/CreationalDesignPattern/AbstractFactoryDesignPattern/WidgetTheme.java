@@ -0,0 +1,15 @@
+package CreationalDesignPattern.AbstractFactoryDesignPattern;
+
+enum WidgetTheme {
+    WINDOWS("Windows"), MACOS("MacOS");
+
+    private final String displayName;
+
+    WidgetTheme(String displayName) {
+        this.displayName = displayName;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+}
@@ -0,0 +1,12 @@
+package CreationalDesignPattern.AbstractFactoryDesignPattern;
+
+// concret for Windows
+class WindowsButton implements Button {
+    public void paint() {
+        System.out.println("Rendering a Windows button.");
+    }
+
+    public void record(DrawCommandBuffer commands, int x, int y, int width, int height, String label) {
+        commands.add(DrawCommandBuffer.BUTTON, WidgetTheme.WINDOWS, x, y, width, height, label);
+    }
+}
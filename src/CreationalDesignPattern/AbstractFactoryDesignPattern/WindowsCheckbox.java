@@ -0,0 +1,11 @@
+package CreationalDesignPattern.AbstractFactoryDesignPattern;
+
+class WindowsCheckbox implements Checkbox {
+    public void paint() {
+        System.out.println("Rendering a Windows checkbox.");
+    }
+
+    public void record(DrawCommandBuffer commands, int x, int y, int width, int height, String label) {
+        commands.add(DrawCommandBuffer.CHECKBOX, WidgetTheme.WINDOWS, x, y, width, height, label);
+    }
+}
@@ -0,0 +1,14 @@
+package CreationalDesignPattern.AbstractFactoryDesignPattern;
+
+// 2.You create Concrete Factories, each implementing the Abstract Factory and
+// producing a particular family (variant) of products.
+
+class WindowsFactory implements GUIFactory {
+    public Button createButton() {
+        return new WindowsButton();
+    }
+
+    public Checkbox createCheckbox() {
+        return new WindowsCheckbox();
+    }
+}
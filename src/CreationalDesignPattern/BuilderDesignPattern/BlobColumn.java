@@ -0,0 +1,44 @@
+package CreationalDesignPattern.BuilderDesignPattern;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.BitSet;
+
+// Mostly unique values (phones, addresses) are packed back to back as UTF-8 in one byte array
+class BlobColumn {
+    private byte[] data;
+    private int[] offsets; // row i spans offsets[i] until offsets[i + 1]
+    private final BitSet nulls = new BitSet();
+    private int rowCount;
+
+    BlobColumn(int initialCapacity, int bytesPerValue) {
+        this.data = new byte[Math.max(16, initialCapacity * bytesPerValue)];
+        this.offsets = new int[initialCapacity + 1];
+    }
+
+    // Rows are appended in order
+    void append(String value) {
+        if (rowCount + 1 >= offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length + (offsets.length >> 1) + 1);
+        }
+        int end = offsets[rowCount];
+        if (value == null) {
+            nulls.set(rowCount);
+        } else {
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            if (end + bytes.length > data.length) {
+                data = Arrays.copyOf(data, Math.max(end + bytes.length, data.length + (data.length >> 1)));
+            }
+            System.arraycopy(bytes, 0, data, end, bytes.length);
+            end += bytes.length;
+        }
+        offsets[++rowCount] = end;
+    }
+
+    String get(int row) {
+        if (nulls.get(row)) {
+            return null;
+        }
+        return new String(data, offsets[row], offsets[row + 1] - offsets[row], StandardCharsets.UTF_8);
+    }
+}
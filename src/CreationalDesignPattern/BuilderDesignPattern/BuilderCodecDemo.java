@@ -0,0 +1,299 @@
+package CreationalDesignPattern.BuilderDesignPattern;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.nio.charset.StandardCharsets;
+
+public class BuilderCodecDemo {
+    private static final int RECORDS = 500_000;
+
+    public static void main(String[] args) throws Exception {
+        UserCodec userCodec = new UserCodec();
+        ComputerCodec computerCodec = new ComputerCodec();
+        ByteBuffer buffer = ByteBuffer.allocate(1 << 16);
+
+        // Round trips, including nulls, empty strings and characters outside ASCII
+        User[] users = {
+                new User.UserBuilder("John", "Doe").age(30).phone("1234567890").address("123 Main Street").build(),
+                new User.UserBuilder("Jane", "Smith").build(),
+                new User.UserBuilder("", "").age(-1).phone("").build(),
+                new User.UserBuilder("Zo\u00eb", "\u0141ukasiewicz").address("\u6771\u4eac\u90fd \ud83c\udfe0").build(),
+                new User.UserBuilder(null, null).age(Integer.MAX_VALUE).build() };
+        for (User user : users) {
+            buffer.clear();
+            userCodec.encode(user, buffer);
+            buffer.flip();
+            checkRoundTrip(user, userCodec.decode(buffer), buffer);
+        }
+        Computer[] computers = {
+                new Computer.ComputerBuilder("Intel i9", "32GB").storage("1TB SSD").graphicsCard("NVIDIA RTX 3090")
+                        .build(),
+                new Computer.ComputerBuilder("Intel i5", "16GB").build(),
+                new Computer.ComputerBuilder("Apple M2 \u2122", "8GB").graphicsCard("").build() };
+        for (Computer computer : computers) {
+            buffer.clear();
+            computerCodec.encode(computer, buffer);
+            buffer.flip();
+            checkRoundTrip(computer, computerCodec.decode(buffer), buffer);
+        }
+
+        // A record that does not fit leaves the buffer untouched
+        ByteBuffer small = ByteBuffer.allocate(16);
+        try {
+            userCodec.encode(users[0], small);
+            throw new IllegalStateException("Expected an overflow");
+        } catch (BufferOverflowException expected) {
+            check(small.position() == 0, "position restored after overflow");
+        }
+        System.out.println("Round trips OK for " + users.length + " users and " + computers.length + " computers");
+
+        User[] batch = new User[RECORDS];
+        for (int i = 0; i < RECORDS; i++) {
+            batch[i] = new User.UserBuilder("User" + (i % 1000), "Family" + (i % 500)).age(18 + i % 70)
+                    .phone(String.valueOf(5_550_000_000L + i)).address((i % 9_999) + " Main Street").build();
+        }
+        ByteBuffer direct = ByteBuffer.allocateDirect(RECORDS * 96);
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            direct.clear();
+            for (User user : batch) {
+                userCodec.encode(user, direct);
+            }
+            long encodeNanos = System.nanoTime() - start;
+            int binaryBytes = direct.position();
+            direct.flip();
+            start = System.nanoTime();
+            int decoded = 0;
+            while (direct.hasRemaining()) {
+                decoded += userCodec.decode(direct).getAge() > 0 ? 1 : 0;
+            }
+            long decodeNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream(RECORDS * 128);
+            try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+                for (User user : batch) {
+                    out.writeObject(user);
+                    out.reset(); // records are independent, as they would be on the wire
+                }
+            }
+            long serializeNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+                for (int i = 0; i < RECORDS; i++) {
+                    decoded -= ((User) in.readObject()).getAge() > 0 ? 1 : 0;
+                }
+            }
+            long deserializeNanos = System.nanoTime() - start;
+
+            System.out.printf("binary:        encode %4.0f ns, decode %4.0f ns, %3d bytes/record%n",
+                    encodeNanos / (double) RECORDS, decodeNanos / (double) RECORDS, binaryBytes / RECORDS);
+            System.out.printf("serialization: encode %4.0f ns, decode %4.0f ns, %3d bytes/record (check %d)%n",
+                    serializeNanos / (double) RECORDS, deserializeNanos / (double) RECORDS, bytes.size() / RECORDS,
+                    decoded);
+        }
+    }
+
+    private static void checkRoundTrip(Object expected, Object actual, ByteBuffer buffer) {
+        check(expected.toString().equals(actual.toString()), expected + " != " + actual);
+        check(!buffer.hasRemaining(), "decoder consumed the whole record");
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException("Check failed: " + message);
+        }
+    }
+}
+
+// Shared layout for builder-made records:
+//   int    record length (bytes after this field)
+//   byte   presence bitmap of the optional fields
+//   fields int-length-prefixed UTF-8 strings (-1 for null), fixed-width numbers
+// Strings are encoded straight into the caller's buffer and their length is
+// patched in afterwards. A wire format instance is not thread-safe.
+class BuilderWireFormat {
+    private final CharsetEncoder encoder = StandardCharsets.UTF_8.newEncoder()
+            .onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private final CharsetDecoder decoder = StandardCharsets.UTF_8.newDecoder()
+            .onMalformedInput(CodingErrorAction.REPLACE).onUnmappableCharacter(CodingErrorAction.REPLACE);
+    private CharBuffer chars = CharBuffer.allocate(256);
+
+    // Returns the position of the length field, to be passed to endRecord()
+    int beginRecord(ByteBuffer out, int presence) {
+        int start = out.position();
+        out.putInt(0).put((byte) presence);
+        return start;
+    }
+
+    void endRecord(ByteBuffer out, int start) {
+        out.putInt(start, out.position() - start - Integer.BYTES);
+    }
+
+    // Reads the header and returns the presence bitmap
+    int readHeader(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 1 || length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        return in.get() & 0xFF;
+    }
+
+    void putString(ByteBuffer out, String value) {
+        if (value == null) {
+            out.putInt(-1);
+            return;
+        }
+        int lengthAt = out.position();
+        out.putInt(0);
+        encoder.reset();
+        CharBuffer source = CharBuffer.wrap(value);
+        CoderResult result = encoder.encode(source, out, true);
+        if (result.isUnderflow()) {
+            result = encoder.flush(out);
+        }
+        if (result.isOverflow()) {
+            throw new BufferOverflowException();
+        }
+        out.putInt(lengthAt, out.position() - lengthAt - Integer.BYTES);
+    }
+
+    String getString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        if (length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        if (in.hasArray()) {
+            String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+            return value;
+        }
+        // Direct buffers: decode through a reused char buffer instead of copying the bytes out first
+        if (chars.capacity() < length) {
+            chars = CharBuffer.allocate(Math.max(length, chars.capacity() * 2));
+        }
+        int limit = in.limit();
+        in.limit(in.position() + length);
+        chars.clear();
+        decoder.reset();
+        try {
+            decoder.decode(in, chars, true);
+            decoder.flush(chars);
+        } finally {
+            in.limit(limit);
+        }
+        return chars.flip().toString();
+    }
+}
+
+interface RecordCodec<T> {
+    // Appends one record; on BufferOverflowException the buffer position is left unchanged
+    void encode(T value, ByteBuffer out);
+
+    // Reads one record starting at the buffer's position
+    T decode(ByteBuffer in);
+}
+
+class UserCodec implements RecordCodec<User> {
+    private static final int AGE = 1;
+    private static final int PHONE = 1 << 1;
+    private static final int ADDRESS = 1 << 2;
+
+    private final BuilderWireFormat format = new BuilderWireFormat();
+
+    @Override
+    public void encode(User user, ByteBuffer out) {
+        int mark = out.position();
+        try {
+            int presence = (user.getAge() != 0 ? AGE : 0) | (user.getPhone() != null ? PHONE : 0)
+                    | (user.getAddress() != null ? ADDRESS : 0);
+            int start = format.beginRecord(out, presence);
+            format.putString(out, user.getFirstName());
+            format.putString(out, user.getLastName());
+            if ((presence & AGE) != 0) {
+                out.putInt(user.getAge());
+            }
+            if ((presence & PHONE) != 0) {
+                format.putString(out, user.getPhone());
+            }
+            if ((presence & ADDRESS) != 0) {
+                format.putString(out, user.getAddress());
+            }
+            format.endRecord(out, start);
+        } catch (BufferOverflowException e) {
+            out.position(mark);
+            throw e;
+        }
+    }
+
+    @Override
+    public User decode(ByteBuffer in) {
+        int presence = format.readHeader(in);
+        User.UserBuilder builder = new User.UserBuilder(format.getString(in), format.getString(in));
+        if ((presence & AGE) != 0) {
+            builder.age(in.getInt());
+        }
+        if ((presence & PHONE) != 0) {
+            builder.phone(format.getString(in));
+        }
+        if ((presence & ADDRESS) != 0) {
+            builder.address(format.getString(in));
+        }
+        return builder.build();
+    }
+}
+
+class ComputerCodec implements RecordCodec<Computer> {
+    private static final int STORAGE = 1;
+    private static final int GRAPHICS_CARD = 1 << 1;
+
+    private final BuilderWireFormat format = new BuilderWireFormat();
+
+    @Override
+    public void encode(Computer computer, ByteBuffer out) {
+        int mark = out.position();
+        try {
+            int presence = (computer.getStorage() != null ? STORAGE : 0)
+                    | (computer.getGraphicsCard() != null ? GRAPHICS_CARD : 0);
+            int start = format.beginRecord(out, presence);
+            format.putString(out, computer.getCpu());
+            format.putString(out, computer.getRam());
+            if ((presence & STORAGE) != 0) {
+                format.putString(out, computer.getStorage());
+            }
+            if ((presence & GRAPHICS_CARD) != 0) {
+                format.putString(out, computer.getGraphicsCard());
+            }
+            format.endRecord(out, start);
+        } catch (BufferOverflowException e) {
+            out.position(mark);
+            throw e;
+        }
+    }
+
+    @Override
+    public Computer decode(ByteBuffer in) {
+        int presence = format.readHeader(in);
+        Computer.ComputerBuilder builder = new Computer.ComputerBuilder(format.getString(in), format.getString(in));
+        if ((presence & STORAGE) != 0) {
+            builder.storage(format.getString(in));
+        }
+        if ((presence & GRAPHICS_CARD) != 0) {
+            builder.graphicsCard(format.getString(in));
+        }
+        return builder.build();
+    }
+}
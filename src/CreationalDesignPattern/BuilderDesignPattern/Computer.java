@@ -0,0 +1,103 @@
+package CreationalDesignPattern.BuilderDesignPattern;
+
+import java.io.Serializable;
+
+class Computer implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    // Mandatory fields
+    private String cpu;
+    private String ram;
+
+    // Optional fields
+    private String storage;
+    private String graphicsCard;
+
+    private Computer(ComputerBuilder builder) {
+        this.cpu = builder.cpu;
+        this.ram = builder.ram;
+        this.storage = builder.storage;
+        this.graphicsCard = builder.graphicsCard;
+    }
+
+    public String getCpu() {
+        return cpu;
+    }
+
+    public String getRam() {
+        return ram;
+    }
+
+    public String getStorage() {
+        return storage;
+    }
+
+    public String getGraphicsCard() {
+        return graphicsCard;
+    }
+
+    @Override
+    public String toString() {
+        return "Computer [CPU=" + cpu + ", RAM=" + ram + ", Storage=" + storage + ", GraphicsCard=" + graphicsCard
+                + "]";
+    }
+
+    public static class ComputerBuilder {
+        private String cpu;
+        private String ram;
+
+        private String storage;
+        private String graphicsCard;
+        private FieldInterner interner;
+        private ComputerValidator validator;
+
+        public ComputerBuilder(String cpu, String ram) {
+            this.cpu = cpu;
+            this.ram = ram;
+        }
+
+        // Starts a new computer with this builder, clearing the optional fields of the previous one
+        public ComputerBuilder reset(String cpu, String ram) {
+            this.cpu = cpu;
+            this.ram = ram;
+            this.storage = null;
+            this.graphicsCard = null;
+            return this;
+        }
+
+        public ComputerBuilder storage(String storage) {
+            this.storage = storage;
+            return this;
+        }
+
+        public ComputerBuilder graphicsCard(String graphicsCard) {
+            this.graphicsCard = graphicsCard;
+            return this;
+        }
+
+        // Optional: share one String instance per distinct field value; kept across reset()
+        public ComputerBuilder interner(FieldInterner interner) {
+            this.interner = interner;
+            return this;
+        }
+
+        // Optional: checked by build(), which then throws IllegalStateException for an invalid configuration
+        public ComputerBuilder validator(ComputerValidator validator) {
+            this.validator = validator;
+            return this;
+        }
+
+        public Computer build() {
+            if (validator != null) {
+                validator.validate(cpu, ram, storage, graphicsCard);
+            }
+            if (interner != null) {
+                cpu = interner.intern(cpu);
+                ram = interner.intern(ram);
+                storage = interner.intern(storage);
+                graphicsCard = interner.intern(graphicsCard);
+            }
+            return new Computer(this);
+        }
+    }
+}
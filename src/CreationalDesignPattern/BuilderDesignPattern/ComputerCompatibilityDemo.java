@@ -0,0 +1,413 @@
+package CreationalDesignPattern.BuilderDesignPattern;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+public class ComputerCompatibilityDemo {
+    public static void main(String[] args) {
+        CompatibilityMatrix matrix = new CompatibilityMatrix(List.of(
+                // RAM generation must match what the CPU's memory controller supports
+                (a, b) -> a.getKind() != PartKind.CPU || b.getKind() != PartKind.RAM
+                        || a.attribute("memory").equals(b.attribute("memory")),
+                // NVMe drives and graphics cards need at least their PCIe generation on the CPU
+                (a, b) -> a.getKind() != PartKind.CPU
+                        || (b.getKind() != PartKind.STORAGE && b.getKind() != PartKind.GRAPHICS_CARD)
+                        || a.number("pcie") >= b.number("pcie")));
+
+        matrix.addPart(new Part("Intel i9", PartKind.CPU, "memory", "DDR5", "pcie", "5"));
+        matrix.addPart(new Part("Intel i5", PartKind.CPU, "memory", "DDR4", "pcie", "4"));
+        matrix.addPart(new Part("32GB", PartKind.RAM, "memory", "DDR5"));
+        matrix.addPart(new Part("16GB", PartKind.RAM, "memory", "DDR4"));
+        matrix.addPart(new Part("1TB SSD", PartKind.STORAGE, "pcie", "4"));
+        matrix.addPart(new Part("2TB Gen5 SSD", PartKind.STORAGE, "pcie", "5"));
+        matrix.addPart(new Part("NVIDIA RTX 3090", PartKind.GRAPHICS_CARD, "pcie", "4"));
+
+        Computer gamingPC = new Computer.ComputerBuilder("Intel i9", "32GB").validator(matrix).storage("1TB SSD")
+                .graphicsCard("NVIDIA RTX 3090").build();
+        System.out.println("Valid: " + gamingPC);
+        System.out.println("Storage that fits an Intel i5 with 16GB: "
+                + matrix.compatibleParts(PartKind.STORAGE, "Intel i5", "16GB"));
+        try {
+            new Computer.ComputerBuilder("Intel i5", "16GB").validator(matrix).storage("2TB Gen5 SSD").build();
+        } catch (IllegalStateException e) {
+            System.out.println("Rejected: " + e.getMessage());
+        }
+        // Each slot must hold a part of its own kind; two RAM kits are not a CPU and storage
+        boolean rejected = false;
+        try {
+            new Computer.ComputerBuilder("16GB", "32GB").validator(matrix).storage("32GB").build();
+        } catch (IllegalStateException e) {
+            System.out.println("Rejected: " + e.getMessage());
+            rejected = true;
+        }
+        if (!rejected || matrix.isValid("16GB", "32GB")) {
+            throw new IllegalStateException("Parts in the wrong slot or of the same kind must be rejected");
+        }
+        // Catalog updates only evaluate the rules for the part that changed
+        matrix.addPart(new Part("Intel i5", PartKind.CPU, "memory", "DDR4", "pcie", "5"));
+        System.out.println("After the i5 refresh: "
+                + matrix.compatibleParts(PartKind.STORAGE, "Intel i5", "16GB"));
+
+        benchmark(matrix.getRules());
+    }
+
+    // Large synthetic catalog: rule evaluation per request vs bitset lookups
+    private static void benchmark(List<CompatibilityRule> rules) {
+        CompatibilityMatrix matrix = new CompatibilityMatrix(rules);
+        Map<String, Part> catalog = new HashMap<>();
+        Random random = new Random(11);
+        String[] memory = { "DDR4", "DDR5" };
+        for (PartKind kind : PartKind.values()) {
+            for (int i = 0; i < 1_000; i++) {
+                Part part = new Part(kind + "-" + i, kind, "memory", memory[random.nextInt(2)], "pcie",
+                        String.valueOf(3 + random.nextInt(3)));
+                catalog.put(part.getName(), part);
+            }
+        }
+        long start = System.nanoTime();
+        for (Part part : catalog.values()) {
+            matrix.addPart(part);
+        }
+        System.out.printf("Built matrix for %d parts in %d ms%n", matrix.size(), (System.nanoTime() - start) / 1_000_000);
+
+        int requests = 200_000;
+        String[][] configurations = new String[requests][];
+        for (int i = 0; i < requests; i++) {
+            configurations[i] = new String[] { PartKind.CPU + "-" + random.nextInt(1_000),
+                    PartKind.RAM + "-" + random.nextInt(1_000), PartKind.STORAGE + "-" + random.nextInt(1_000),
+                    PartKind.GRAPHICS_CARD + "-" + random.nextInt(1_000) };
+        }
+        List<Part> graphicsCards = new ArrayList<>();
+        for (Part part : catalog.values()) {
+            if (part.getKind() == PartKind.GRAPHICS_CARD) {
+                graphicsCards.add(part);
+            }
+        }
+        int queries = 2_000;
+        for (int round = 0; round < 3; round++) {
+            int valid = 0;
+            start = System.nanoTime();
+            for (String[] configuration : configurations) {
+                valid += evaluateRules(rules, catalog, configuration) ? 1 : 0;
+            }
+            long ruleNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (String[] configuration : configurations) {
+                valid -= matrix.isValid(configuration) ? 1 : 0;
+            }
+            long matrixNanos = System.nanoTime() - start;
+
+            int remaining = 0;
+            start = System.nanoTime();
+            for (int i = 0; i < queries; i++) {
+                for (Part candidate : graphicsCards) {
+                    String[] selected = { configurations[i][0], configurations[i][1], candidate.getName() };
+                    remaining += evaluateRules(rules, catalog, selected) ? 1 : 0;
+                }
+            }
+            long ruleRemainingNanos = System.nanoTime() - start;
+            start = System.nanoTime();
+            for (int i = 0; i < queries; i++) {
+                remaining -= matrix.compatibleParts(PartKind.GRAPHICS_CARD, configurations[i][0],
+                        configurations[i][1]).size();
+            }
+            long matrixRemainingNanos = System.nanoTime() - start;
+
+            System.out.printf("isValid: rules %4.0f ns, matrix %4.0f ns | compatible GPUs: rules %6.1f us, matrix %4.1f us (check %d)%n",
+                    ruleNanos / (double) requests, matrixNanos / (double) requests,
+                    ruleRemainingNanos / (double) queries / 1e3, matrixRemainingNanos / (double) queries / 1e3,
+                    valid + remaining);
+        }
+    }
+
+    // What the configurator did before: every rule over every pair, on every request
+    private static boolean evaluateRules(List<CompatibilityRule> rules, Map<String, Part> catalog,
+            String[] names) {
+        Part[] configuration = new Part[names.length];
+        for (int i = 0; i < names.length; i++) {
+            configuration[i] = catalog.get(names[i]);
+            if (configuration[i] == null) {
+                return false;
+            }
+        }
+        for (int i = 0; i < configuration.length; i++) {
+            for (int j = i + 1; j < configuration.length; j++) {
+                for (CompatibilityRule rule : rules) {
+                    // Configurations list parts in PartKind order, as the rules expect
+                    if (!rule.compatible(configuration[i], configuration[j])) {
+                        return false;
+                    }
+                }
+            }
+        }
+        return true;
+    }
+}
+
+enum PartKind {
+    CPU, RAM, STORAGE, GRAPHICS_CARD
+}
+
+class Part {
+    private final String name;
+    private final PartKind kind;
+    private final Map<String, String> attributes = new HashMap<>();
+
+    // Attributes are given as key, value pairs
+    public Part(String name, PartKind kind, String... attributes) {
+        if (attributes.length % 2 != 0) {
+            throw new IllegalArgumentException("Attributes must be key, value pairs");
+        }
+        this.name = name;
+        this.kind = kind;
+        for (int i = 0; i < attributes.length; i += 2) {
+            this.attributes.put(attributes[i], attributes[i + 1]);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public PartKind getKind() {
+        return kind;
+    }
+
+    public String attribute(String key) {
+        return attributes.getOrDefault(key, "");
+    }
+
+    public int number(String key) {
+        String value = attributes.get(key);
+        return value == null ? 0 : Integer.parseInt(value);
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+}
+
+// A pairwise rule. Parts are passed in PartKind order (a CPU always comes before RAM).
+interface CompatibilityRule {
+    boolean compatible(Part a, Part b);
+}
+
+// Evaluates the rules once per pair of parts and keeps the answers as one
+// bitset row per part (bit j of row i: parts i and j work together). Checking
+// a configuration or listing the parts that still fit is then a handful of
+// bitwise ANDs. Adding, replacing or removing a part only re-evaluates that
+// part against the rest of the catalog.
+class CompatibilityMatrix implements ComputerValidator {
+    // Kind expected in each validate() slot, in argument order
+    private static final PartKind[] SLOTS = { PartKind.CPU, PartKind.RAM, PartKind.STORAGE, PartKind.GRAPHICS_CARD };
+
+    private final List<CompatibilityRule> rules;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> ids = new HashMap<>();
+    private final Deque<Integer> freeIds = new ArrayDeque<>();
+    private Part[] parts = new Part[64];
+    private long[][] rows = new long[64][1];
+    private final long[][] kindMasks = new long[PartKind.values().length][1];
+    private int nextId;
+
+    public CompatibilityMatrix(List<CompatibilityRule> rules) {
+        this.rules = List.copyOf(rules);
+    }
+
+    public List<CompatibilityRule> getRules() {
+        return rules;
+    }
+
+    // Adds the part, replacing any part with the same name
+    public void addPart(Part part) {
+        lock.writeLock().lock();
+        try {
+            Integer existing = ids.get(part.getName());
+            if (existing != null) {
+                remove(existing);
+            }
+            int id = freeIds.isEmpty() ? nextId++ : freeIds.pop();
+            ensureCapacity(id + 1);
+            parts[id] = part;
+            ids.put(part.getName(), id);
+            set(kindMasks[part.getKind().ordinal()], id);
+            for (int other = 0; other < nextId; other++) {
+                if (parts[other] != null && evaluate(part, parts[other])) {
+                    set(rows[id], other);
+                    set(rows[other], id);
+                }
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public boolean removePart(String name) {
+        lock.writeLock().lock();
+        try {
+            Integer id = ids.get(name);
+            if (id == null) {
+                return false;
+            }
+            remove(id);
+            return true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return ids.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // True if every selected part is in the catalog and all of them are pairwise compatible; nulls are skipped.
+    // Two parts of the same kind are never compatible.
+    public boolean isValid(String... selected) {
+        lock.readLock().lock();
+        try {
+            return findConflict(null, selected) == null;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // Parts of the given kind that work with every selected part; empty if the selection itself is invalid
+    public List<String> compatibleParts(PartKind kind, String... selected) {
+        lock.readLock().lock();
+        try {
+            if (findConflict(null, selected) != null) {
+                return List.of();
+            }
+            long[] candidates = kindMasks[kind.ordinal()].clone();
+            for (String name : selected) {
+                if (name == null) {
+                    continue;
+                }
+                long[] row = rows[ids.get(name)];
+                for (int w = 0; w < candidates.length; w++) {
+                    candidates[w] &= row[w];
+                }
+            }
+            List<String> names = new ArrayList<>();
+            for (int w = 0; w < candidates.length; w++) {
+                for (long word = candidates[w]; word != 0; word &= word - 1) {
+                    names.add(parts[w * 64 + Long.numberOfTrailingZeros(word)].getName());
+                }
+            }
+            return names;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void validate(String cpu, String ram, String storage, String graphicsCard) {
+        String conflict;
+        lock.readLock().lock();
+        try {
+            conflict = findConflict(SLOTS, cpu, ram, storage, graphicsCard);
+        } finally {
+            lock.readLock().unlock();
+        }
+        if (conflict != null) {
+            throw new IllegalStateException(conflict);
+        }
+    }
+
+    // Describes the first problem found, or returns null; caller holds the read lock.
+    // When slots is given, selected[i] must be a part of kind slots[i].
+    private String findConflict(PartKind[] slots, String... selected) {
+        int[] selectedIds = new int[selected.length];
+        int count = 0;
+        for (int s = 0; s < selected.length; s++) {
+            String name = selected[s];
+            if (name == null) {
+                continue;
+            }
+            Integer id = ids.get(name);
+            if (id == null) {
+                return "Unknown part: " + name;
+            }
+            if (slots != null && parts[id].getKind() != slots[s]) {
+                return name + " is a " + parts[id].getKind() + " part, not " + slots[s];
+            }
+            for (int i = 0; i < count; i++) {
+                if (!get(rows[selectedIds[i]], id)) {
+                    return "Incompatible parts: " + parts[selectedIds[i]].getName() + " and " + name;
+                }
+            }
+            selectedIds[count++] = id;
+        }
+        return null;
+    }
+
+    private boolean evaluate(Part a, Part b) {
+        if (a.getKind() == b.getKind()) {
+            return false; // a configuration holds one part of each kind
+        }
+        if (a.getKind().compareTo(b.getKind()) > 0) {
+            Part swap = a;
+            a = b;
+            b = swap;
+        }
+        for (CompatibilityRule rule : rules) {
+            if (!rule.compatible(a, b)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void remove(int id) {
+        for (long[] row : rows) {
+            clear(row, id);
+        }
+        Arrays.fill(rows[id], 0);
+        clear(kindMasks[parts[id].getKind().ordinal()], id);
+        ids.remove(parts[id].getName());
+        parts[id] = null;
+        freeIds.push(id);
+    }
+
+    private void ensureCapacity(int partCount) {
+        if (partCount <= parts.length) {
+            return;
+        }
+        int capacity = Math.max(partCount, parts.length * 2);
+        int words = (capacity + 63) / 64;
+        parts = Arrays.copyOf(parts, capacity);
+        long[][] grown = new long[capacity][];
+        for (int i = 0; i < capacity; i++) {
+            grown[i] = i < rows.length ? Arrays.copyOf(rows[i], words) : new long[words];
+        }
+        rows = grown;
+        for (int k = 0; k < kindMasks.length; k++) {
+            kindMasks[k] = Arrays.copyOf(kindMasks[k], words);
+        }
+    }
+
+    private static void set(long[] bits, int index) {
+        bits[index >>> 6] |= 1L << index;
+    }
+
+    private static void clear(long[] bits, int index) {
+        bits[index >>> 6] &= ~(1L << index);
+    }
+
+    private static boolean get(long[] bits, int index) {
+        return (bits[index >>> 6] & (1L << index)) != 0;
+    }
+}
@@ -0,0 +1,6 @@
+package CreationalDesignPattern.BuilderDesignPattern;
+
+// Checked by Computer.ComputerBuilder.build(); throws IllegalStateException for an invalid configuration
+interface ComputerValidator {
+    void validate(String cpu, String ram, String storage, String graphicsCard);
+}
@@ -0,0 +1,40 @@
+package CreationalDesignPattern.BuilderDesignPattern;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Repeating values (names) are stored once; each row holds an int code, -1 for null
+class DictionaryColumn {
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> values = new ArrayList<>();
+    private int[] rows;
+
+    DictionaryColumn(int initialCapacity) {
+        this.rows = new int[initialCapacity];
+    }
+
+    void set(int row, String value) {
+        if (row >= rows.length) {
+            rows = Arrays.copyOf(rows, Math.max(row + 1, rows.length + (rows.length >> 1)));
+        }
+        if (value == null) {
+            rows[row] = -1;
+            return;
+        }
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = values.size();
+            codes.put(value, code);
+            values.add(value);
+        }
+        rows[row] = code;
+    }
+
+    String get(int row) {
+        int code = rows[row];
+        return code < 0 ? null : values.get(code);
+    }
+}
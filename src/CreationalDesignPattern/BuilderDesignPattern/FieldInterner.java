@@ -0,0 +1,56 @@
+package CreationalDesignPattern.BuilderDesignPattern;
+
+import java.lang.ref.WeakReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+// Bounded canonicalization table for field values. Equal strings passed
+// through intern() come back as one shared instance as long as it is in the
+// table. The table is lossy: each value hashes to a pair of slots, and a new
+// value pushes out the older entry of the pair, so memory stays fixed and
+// there are no locks. Entries are weak, so the table never keeps a value
+// alive on its own. A miss just returns the argument, which is always correct.
+class FieldInterner {
+    private final AtomicReferenceArray<WeakReference<String>> table;
+    private final int mask;
+
+    public FieldInterner(int capacity) {
+        int size = Integer.highestOneBit(Math.max(2, capacity - 1)) << 1;
+        this.table = new AtomicReferenceArray<>(size);
+        this.mask = size - 1;
+    }
+
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+        int h = value.hashCode();
+        int first = (h ^ (h >>> 16)) & mask;
+        int second = first ^ 1;
+
+        String canonical = valueAt(first);
+        if (value.equals(canonical)) {
+            return canonical;
+        }
+        canonical = valueAt(second);
+        if (value.equals(canonical)) {
+            // Move hot values to the first slot so they survive the next insert
+            swap(first, second);
+            return canonical;
+        }
+        // Demote the first entry and drop the second; a racing update only loses an entry
+        table.lazySet(second, table.get(first));
+        table.lazySet(first, new WeakReference<>(value));
+        return value;
+    }
+
+    private String valueAt(int slot) {
+        WeakReference<String> reference = table.get(slot);
+        return reference == null ? null : reference.get();
+    }
+
+    private void swap(int first, int second) {
+        WeakReference<String> demoted = table.get(first);
+        table.lazySet(first, table.get(second));
+        table.lazySet(second, demoted);
+    }
+}
@@ -0,0 +1,76 @@
+package CreationalDesignPattern.BuilderDesignPattern;
+
+public class FieldInternerDemo {
+    public static void main(String[] args) {
+        // 10M records need about -Xmx5g for the run without interning; the default fits a small heap
+        int records = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int capacity = args.length > 1 ? Integer.parseInt(args[1]) : 1 << 16;
+
+        Dataset plain = Dataset.load(records, null);
+        long plainBytes = plain.retainedBytes;
+        plain = null;
+        FieldInterner interner = new FieldInterner(capacity);
+        Dataset interned = Dataset.load(records, interner);
+
+        System.out.printf("%,d users + %,d computers%n", records, records);
+        System.out.printf("without interner: %,d bytes (%.1f bytes/record)%n", plainBytes,
+                plainBytes / (double) records);
+        System.out.printf("with interner:    %,d bytes (%.1f bytes/record), %.0f%% saved (table of %,d)%n",
+                interned.retainedBytes, interned.retainedBytes / (double) records,
+                100.0 * (plainBytes - interned.retainedBytes) / plainBytes, capacity);
+        System.out.println(interned.users[records - 1] + "\n" + interned.computers[records - 1]);
+    }
+
+    // Synthetic import: every field arrives as a new String, the way a parser would produce it
+    private static final class Dataset {
+        private static final String[] CPUS = { "Intel i3", "Intel i5", "Intel i7", "Intel i9", "AMD Ryzen 5",
+                "AMD Ryzen 7", "AMD Ryzen 9", "Apple M2", "Apple M3" };
+        private static final String[] RAMS = { "8GB", "16GB", "32GB", "64GB", "128GB" };
+        private static final String[] STORAGES = { "256GB SSD", "512GB SSD", "1TB SSD", "2TB SSD", "1TB HDD" };
+        private static final String[] GRAPHICS_CARDS = { "NVIDIA RTX 3060", "NVIDIA RTX 3090", "NVIDIA RTX 4090",
+                "AMD RX 7900", "Intel Arc A770" };
+
+        final User[] users;
+        final Computer[] computers;
+        long retainedBytes;
+
+        private Dataset(int records) {
+            this.users = new User[records];
+            this.computers = new Computer[records];
+        }
+
+        static Dataset load(int records, FieldInterner interner) {
+            long before = usedHeap();
+            Dataset dataset = new Dataset(records);
+            User.UserBuilder userBuilder = new User.UserBuilder(null, null).interner(interner);
+            Computer.ComputerBuilder computerBuilder = new Computer.ComputerBuilder(null, null).interner(interner);
+            for (int i = 0; i < records; i++) {
+                dataset.users[i] = userBuilder.reset(fresh("First" + i % 2_000), fresh("Last" + i % 5_000))
+                        .age(18 + i % 70)
+                        .phone(fresh("+1555" + (1_000_000 + i % 300_000)))
+                        .address(fresh((1 + i % 20_000) + " Main Street"))
+                        .build();
+                computerBuilder.reset(fresh(CPUS[i % CPUS.length]), fresh(RAMS[i % RAMS.length]))
+                        .storage(fresh(STORAGES[i % STORAGES.length]));
+                if (i % 2 == 0) {
+                    computerBuilder.graphicsCard(fresh(GRAPHICS_CARDS[i % GRAPHICS_CARDS.length]));
+                }
+                dataset.computers[i] = computerBuilder.build();
+            }
+            dataset.retainedBytes = usedHeap() - before;
+            return dataset;
+        }
+
+        private static String fresh(String value) {
+            return new String(value.toCharArray());
+        }
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
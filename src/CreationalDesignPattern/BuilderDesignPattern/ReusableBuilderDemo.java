@@ -0,0 +1,130 @@
+package CreationalDesignPattern.BuilderDesignPattern;
+
+import java.lang.management.ManagementFactory;
+
+public class ReusableBuilderDemo {
+    private static final int RECORDS = 1_000_000;
+
+    public static void main(String[] args) {
+        String[] firstNames = new String[RECORDS];
+        String[] lastNames = new String[RECORDS];
+        int[] ages = new int[RECORDS];
+        String[] phones = new String[RECORDS];
+        String[] addresses = new String[RECORDS];
+        for (int i = 0; i < RECORDS; i++) {
+            firstNames[i] = "User" + (i % 1000);
+            lastNames[i] = "Family" + (i % 500);
+            ages[i] = 18 + i % 70;
+            phones[i] = i % 3 == 0 ? null : String.valueOf(5_550_000_000L + i);
+            addresses[i] = (i % 9_999) + " Main Street";
+        }
+        User[] users = new User[RECORDS];
+
+        ReusableBuilders.buildUsers(firstNames, lastNames, ages, phones, addresses, users);
+        System.out.println(users[0] + "\n" + users[1]);
+        System.out.println(ReusableBuilders.computer("Intel i9", "32GB").storage("1TB SSD").build());
+        System.out.println(ReusableBuilders.computer("Intel i5", "16GB").build()); // storage was reset
+
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory
+                .getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+        // Once the JIT inlines the fresh-builder loop it may scalar-replace the builder (escape
+        // analysis); the reused builder does not depend on that, e.g. when records pass through
+        // calls that are not inlined
+        for (int round = 0; round < 5; round++) {
+            long before = threads.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < RECORDS; i++) {
+                User.UserBuilder builder = new User.UserBuilder(firstNames[i], lastNames[i]).age(ages[i])
+                        .address(addresses[i]);
+                if (phones[i] != null) {
+                    builder.phone(phones[i]);
+                }
+                users[i] = builder.build();
+            }
+            long fresh = threads.getThreadAllocatedBytes(threadId) - before;
+
+            before = threads.getThreadAllocatedBytes(threadId);
+            ReusableBuilders.buildUsers(firstNames, lastNames, ages, phones, addresses, users);
+            long reused = threads.getThreadAllocatedBytes(threadId) - before;
+
+            System.out.printf("new builder per record: %4.1f bytes/record | reused builder: %4.1f bytes/record%n",
+                    fresh / (double) RECORDS, reused / (double) RECORDS);
+            // Only the User itself (12-16 byte header, five fields) may be allocated per record
+            if (reused > RECORDS * 40L) {
+                throw new IllegalStateException("Reused builder allocated " + reused / RECORDS + " bytes/record");
+            }
+        }
+    }
+}
+
+// Per-thread builders for bulk construction: one builder per thread is reset
+// for each record instead of allocating a new one that is dropped after build().
+class ReusableBuilders {
+    private static final ThreadLocal<User.UserBuilder> USER_BUILDER = ThreadLocal
+            .withInitial(() -> new User.UserBuilder(null, null));
+    private static final ThreadLocal<Computer.ComputerBuilder> COMPUTER_BUILDER = ThreadLocal
+            .withInitial(() -> new Computer.ComputerBuilder(null, null));
+
+    // The builder belongs to the calling thread and is reset by the next call, so it must not be kept
+    public static User.UserBuilder user(String firstName, String lastName) {
+        return USER_BUILDER.get().reset(firstName, lastName);
+    }
+
+    public static Computer.ComputerBuilder computer(String cpu, String ram) {
+        return COMPUTER_BUILDER.get().reset(cpu, ram);
+    }
+
+    // Builds out[i] from row i of the columns. Optional columns may be null when
+    // absent, and a null entry leaves that field unset.
+    public static void buildUsers(String[] firstNames, String[] lastNames, int[] ages, String[] phones,
+            String[] addresses, User[] out) {
+        int rows = out.length;
+        checkLength(firstNames.length, rows);
+        checkLength(lastNames.length, rows);
+        checkLength(ages == null ? rows : ages.length, rows);
+        checkLength(phones == null ? rows : phones.length, rows);
+        checkLength(addresses == null ? rows : addresses.length, rows);
+
+        User.UserBuilder builder = USER_BUILDER.get();
+        for (int i = 0; i < rows; i++) {
+            builder.reset(firstNames[i], lastNames[i]);
+            if (ages != null) {
+                builder.age(ages[i]);
+            }
+            if (phones != null && phones[i] != null) {
+                builder.phone(phones[i]);
+            }
+            if (addresses != null && addresses[i] != null) {
+                builder.address(addresses[i]);
+            }
+            out[i] = builder.build();
+        }
+    }
+
+    public static void buildComputers(String[] cpus, String[] rams, String[] storages, String[] graphicsCards,
+            Computer[] out) {
+        int rows = out.length;
+        checkLength(cpus.length, rows);
+        checkLength(rams.length, rows);
+        checkLength(storages == null ? rows : storages.length, rows);
+        checkLength(graphicsCards == null ? rows : graphicsCards.length, rows);
+
+        Computer.ComputerBuilder builder = COMPUTER_BUILDER.get();
+        for (int i = 0; i < rows; i++) {
+            builder.reset(cpus[i], rams[i]);
+            if (storages != null && storages[i] != null) {
+                builder.storage(storages[i]);
+            }
+            if (graphicsCards != null && graphicsCards[i] != null) {
+                builder.graphicsCard(graphicsCards[i]);
+            }
+            out[i] = builder.build();
+        }
+    }
+
+    private static void checkLength(int length, int rows) {
+        if (length != rows) {
+            throw new IllegalArgumentException("Column has " + length + " rows, expected " + rows);
+        }
+    }
+}
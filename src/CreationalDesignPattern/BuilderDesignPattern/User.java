@@ -0,0 +1,114 @@
+package CreationalDesignPattern.BuilderDesignPattern;
+
+import java.io.Serializable;
+
+// 1. Product class
+class User implements Serializable {
+    private static final long serialVersionUID = 1L;
+
+    // mandatory fields
+    private final String firstName;
+    private final String lastName;
+
+    // optional fields
+    private final int age;
+    private final String phone;
+    private final String address;
+
+    private User(UserBuilder builder) {
+        this.firstName = builder.firstName;
+        this.lastName = builder.lastName;
+        this.age = builder.age;
+        this.phone = builder.phone;
+        this.address = builder.address;
+    }
+
+    // Getters (no setters to maintain immutability)
+    public String getFirstName() {
+        return firstName;
+    }
+
+    public String getLastName() {
+        return lastName;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    @Override
+    public String toString() {
+        return "User [firstName=" + firstName + ", lastName=" + lastName +
+                ", age=" + age + ", phone=" + phone + ", address=" + address + "]";
+    }
+
+    // 2. Builder class
+    public static class UserBuilder {
+        private String firstName;
+        private String lastName;
+
+        private int age;
+        private String phone;
+        private String address;
+        private FieldInterner interner;
+
+        public UserBuilder(String firstName, String lastName) {
+            this.firstName = firstName;
+            this.lastName = lastName;
+        }
+
+        // Starts a new user with this builder, clearing the optional fields of the previous one
+        public UserBuilder reset(String firstName, String lastName) {
+            this.firstName = firstName;
+            this.lastName = lastName;
+            this.age = 0;
+            this.phone = null;
+            this.address = null;
+            return this;
+        }
+
+        public UserBuilder age(int age) {
+            this.age = age;
+            return this; // enables chaining
+        }
+
+        public UserBuilder phone(String phone) {
+            this.phone = phone;
+            return this;
+        }
+
+        public UserBuilder address(String address) {
+            this.address = address;
+            return this;
+        }
+
+        // Optional: share one String instance per distinct field value; kept across reset()
+        public UserBuilder interner(FieldInterner interner) {
+            this.interner = interner;
+            return this;
+        }
+
+        public User build() {
+            if (interner != null) {
+                firstName = interner.intern(firstName);
+                lastName = interner.intern(lastName);
+                phone = interner.intern(phone);
+                address = interner.intern(address);
+            }
+            return new User(this);
+        }
+
+        // Adds the user to a columnar store instead of creating a User object; returns its row
+        public int appendTo(UserStore store) {
+            return store.add(firstName, lastName, age, phone, address);
+        }
+    }
+}
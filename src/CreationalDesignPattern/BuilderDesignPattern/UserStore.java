@@ -0,0 +1,103 @@
+package CreationalDesignPattern.BuilderDesignPattern;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+// Keeps users column by column instead of one User object each: names are
+// dictionary-encoded, phone and address are packed UTF-8, age is an int
+// column. Rows are append-only and read back through UserView flyweights.
+// Like ArrayList, a store must not be modified while other threads read it.
+class UserStore implements Iterable<UserView> {
+    private final DictionaryColumn firstNames;
+    private final DictionaryColumn lastNames;
+    private final BlobColumn phones;
+    private final BlobColumn addresses;
+    private int[] ages;
+    private int size;
+
+    public UserStore(int initialCapacity) {
+        this.firstNames = new DictionaryColumn(initialCapacity);
+        this.lastNames = new DictionaryColumn(initialCapacity);
+        this.phones = new BlobColumn(initialCapacity, 10);
+        this.addresses = new BlobColumn(initialCapacity, 16);
+        this.ages = new int[initialCapacity];
+    }
+
+    // Returns the row of the new user
+    public int add(String firstName, String lastName, int age, String phone, String address) {
+        int row = size;
+        if (row == ages.length) {
+            ages = Arrays.copyOf(ages, Math.max(16, row + (row >> 1)));
+        }
+        firstNames.set(row, firstName);
+        lastNames.set(row, lastName);
+        ages[row] = age;
+        phones.append(phone);
+        addresses.append(address);
+        size++;
+        return row;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    // Each call returns a new view; scans can reuse one with UserView.moveTo()
+    public UserView get(int row) {
+        return new UserView(this).moveTo(row);
+    }
+
+    // Materializes the row as a regular User
+    public User toUser(int row) {
+        checkRow(row);
+        return new User.UserBuilder(getFirstName(row), getLastName(row)).age(getAge(row)).phone(getPhone(row))
+                .address(getAddress(row)).build();
+    }
+
+    @Override
+    public Iterator<UserView> iterator() {
+        return new Iterator<UserView>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < size;
+            }
+
+            @Override
+            public UserView next() {
+                if (next >= size) {
+                    throw new NoSuchElementException();
+                }
+                return get(next++);
+            }
+        };
+    }
+
+    String getFirstName(int row) {
+        return firstNames.get(row);
+    }
+
+    String getLastName(int row) {
+        return lastNames.get(row);
+    }
+
+    int getAge(int row) {
+        return ages[row];
+    }
+
+    String getPhone(int row) {
+        return phones.get(row);
+    }
+
+    String getAddress(int row) {
+        return addresses.get(row);
+    }
+
+    void checkRow(int row) {
+        if (row < 0 || row >= size) {
+            throw new IndexOutOfBoundsException("Row " + row + " of " + size);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package CreationalDesignPattern.BuilderDesignPattern;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class UserStoreDemo {
+    private static final String[] FIRST_NAMES = { "John", "Jane", "Alex", "Maria", "Wei", "Priya", "Omar", "Lena",
+            "Carlos", "Yuki", "Fatima", "Ivan" };
+    private static final String[] LAST_NAMES = { "Doe", "Smith", "Garcia", "Chen", "Patel", "Khan", "Muller",
+            "Rossi", "Tanaka", "Silva", "Novak", "Okafor" };
+    private static final String[] STREETS = { "Main Street", "Oak Avenue", "Pine Road", "Elm Street", "Lake Drive" };
+
+    public static void main(String[] args) {
+        int users = args.length > 0 ? Integer.parseInt(args[0]) : 2_000_000;
+
+        UserStore store = new UserStore(16);
+        new User.UserBuilder("John", "Doe").age(30).phone("1234567890").address("123 Main Street").appendTo(store);
+        new User.UserBuilder("Jane", "Smith").appendTo(store);
+        for (UserView user : store) {
+            System.out.println(user);
+        }
+
+        long baseline = usedHeap();
+        List<User> list = new ArrayList<>(users);
+        for (int i = 0; i < users; i++) {
+            list.add(user(i).build());
+        }
+        long listBytes = usedHeap() - baseline;
+        int listSize = list.size();
+        list = null;
+
+        baseline = usedHeap();
+        store = new UserStore(users);
+        for (int i = 0; i < users; i++) {
+            user(i).appendTo(store);
+        }
+        long storeBytes = usedHeap() - baseline;
+
+        System.out.printf("List<User>: %,d users, %,d bytes (%.1f bytes/user)%n", listSize, listBytes,
+                listBytes / (double) listSize);
+        System.out.printf("UserStore:  %,d users, %,d bytes (%.1f bytes/user), %.1fx smaller%n", store.size(),
+                storeBytes, storeBytes / (double) store.size(), listBytes / (double) storeBytes);
+        if (listBytes < 3 * storeBytes) {
+            throw new IllegalStateException(String.format("UserStore should use at most a third of the List<User>"
+                    + " heap, but it is only %.1fx smaller", listBytes / (double) storeBytes));
+        }
+
+        // Scanning a column through one reused view allocates nothing
+        UserView view = store.get(0);
+        long totalAge = 0;
+        for (int i = 0; i < store.size(); i++) {
+            totalAge += view.moveTo(i).getAge();
+        }
+        System.out.printf("Average age: %.1f, last user: %s%n", totalAge / (double) store.size(),
+                store.get(store.size() - 1));
+    }
+
+    // Same kind of data a profile import would see: few distinct names, unique phones and addresses
+    private static User.UserBuilder user(int i) {
+        return new User.UserBuilder(FIRST_NAMES[i % FIRST_NAMES.length], LAST_NAMES[(i / 7) % LAST_NAMES.length])
+                .age(18 + i % 70)
+                .phone(String.valueOf(5_550_000_000L + i))
+                .address((1 + i % 9_999) + " " + STREETS[i % STREETS.length]);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,48 @@
+package CreationalDesignPattern.BuilderDesignPattern;
+
+// Read-only window onto one row of a UserStore; moveTo() repositions it so a
+// scan can reuse a single view. Phone and address are decoded on each call.
+class UserView {
+    private final UserStore store;
+    private int row;
+
+    UserView(UserStore store) {
+        this.store = store;
+    }
+
+    public UserView moveTo(int row) {
+        store.checkRow(row);
+        this.row = row;
+        return this;
+    }
+
+    public int getRow() {
+        return row;
+    }
+
+    public String getFirstName() {
+        return store.getFirstName(row);
+    }
+
+    public String getLastName() {
+        return store.getLastName(row);
+    }
+
+    public int getAge() {
+        return store.getAge(row);
+    }
+
+    public String getPhone() {
+        return store.getPhone(row);
+    }
+
+    public String getAddress() {
+        return store.getAddress(row);
+    }
+
+    @Override
+    public String toString() {
+        return "User [firstName=" + getFirstName() + ", lastName=" + getLastName() + ", age=" + getAge()
+                + ", phone=" + getPhone() + ", address=" + getAddress() + "]";
+    }
+}
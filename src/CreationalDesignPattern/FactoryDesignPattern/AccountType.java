@@ -0,0 +1,24 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+// Built-in account types, indexed by their one-letter code
+enum AccountType {
+    PERSONAL('P', new PersonalAccount()),
+    BUSINESS('B', new BusinessAccount()),
+    CHECKING('C', new CheckingAccount());
+
+    private final char code;
+    private final BankAccount account;
+
+    AccountType(char code, BankAccount account) {
+        this.code = code;
+        this.account = account;
+    }
+
+    public char getCode() {
+        return code;
+    }
+
+    public BankAccount getAccount() {
+        return account;
+    }
+}
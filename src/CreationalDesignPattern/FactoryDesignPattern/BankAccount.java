@@ -0,0 +1,7 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+// Product Interface
+// Public so BankAccountProvider plugins outside this package can implement it
+public interface BankAccount {
+    void registerAccount();
+}
@@ -0,0 +1,122 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+// Factory Class
+// The built-in account products are stateless, so the registry is built once
+// and hands them out as shared instances: a lookup is a single array read
+// instead of a toUpperCase() and a string switch. Extra types can be plugged
+// in through ServiceLoader with a BankAccountProvider; those are asked for an
+// account on every request. A provider that fails to load or registers an
+// invalid or duplicate code is logged and skipped, so it cannot take the
+// built-in types down with it.
+class BankAccountFactory {
+    private static final System.Logger LOG = System.getLogger(BankAccountFactory.class.getName());
+    private static final BankAccount[] SHARED = new BankAccount[128];
+    private static final BankAccountProvider[] PROVIDERS = new BankAccountProvider[128];
+
+    static {
+        for (AccountType type : AccountType.values()) {
+            register(type.getCode(), type.getAccount(), null);
+        }
+        loadProviders();
+    }
+
+    public BankAccount createAccount(String accountType) {
+        if (accountType == null || accountType.isEmpty())
+            return null;
+
+        BankAccount account = accountType.length() == 1 ? lookup(accountType.charAt(0)) : null;
+        if (account == null) {
+            throw new IllegalArgumentException("Unknown account type " + accountType);
+        }
+        return account;
+    }
+
+    // Same lookup for callers that already hold the code as a char (e.g. file importers)
+    public BankAccount createAccount(char accountType) {
+        BankAccount account = lookup(accountType);
+        if (account == null) {
+            throw new IllegalArgumentException("Unknown account type " + accountType);
+        }
+        return account;
+    }
+
+    // Resolves a whole onboarding batch in parallel; results keep the input order
+    public BankAccount[] createAccounts(String[] accountTypes) {
+        BankAccount[] accounts = new BankAccount[accountTypes.length];
+        IntStream.range(0, accountTypes.length).parallel()
+                .forEach(i -> accounts[i] = createAccount(accountTypes[i]));
+        return accounts;
+    }
+
+    public List<BankAccount> createAccounts(Stream<String> accountTypes) {
+        return accountTypes.parallel().map(this::createAccount).collect(Collectors.toList());
+    }
+
+    private static BankAccount lookup(char code) {
+        if (code >= SHARED.length) {
+            return null;
+        }
+        BankAccount account = SHARED[code];
+        if (account != null) {
+            return account;
+        }
+        BankAccountProvider provider = PROVIDERS[code];
+        if (provider == null) {
+            return null;
+        }
+        account = provider.create();
+        if (account == null) {
+            throw new IllegalStateException(provider.getClass().getName() + " returned no account for " + code);
+        }
+        return account;
+    }
+
+    private static void loadProviders() {
+        Iterator<BankAccountProvider> providers = ServiceLoader.load(BankAccountProvider.class).iterator();
+        while (true) {
+            BankAccountProvider provider;
+            try {
+                if (!providers.hasNext()) {
+                    return;
+                }
+                provider = providers.next();
+            } catch (ServiceConfigurationError e) {
+                // The iterator moves on to the next configured provider
+                LOG.log(System.Logger.Level.WARNING, "Skipping account type provider that failed to load", e);
+                continue;
+            }
+            try {
+                register(provider.code(), null, provider);
+            } catch (RuntimeException e) {
+                LOG.log(System.Logger.Level.WARNING, "Skipping account type provider " + provider.getClass().getName(), e);
+            }
+        }
+    }
+
+    // Codes are case-insensitive, so each type is stored under both cases.
+    // Exactly one of shared and provider is set.
+    private static void register(char code, BankAccount shared, BankAccountProvider provider) {
+        char upper = Character.toUpperCase(code);
+        char lower = Character.toLowerCase(upper);
+        if (upper >= SHARED.length || lower >= SHARED.length) {
+            throw new IllegalArgumentException("Account type code must be ASCII: " + code);
+        }
+        if (SHARED[upper] != null || PROVIDERS[upper] != null) {
+            LOG.log(System.Logger.Level.WARNING, "Ignoring duplicate account type " + upper
+                    + (provider != null ? " from " + provider.getClass().getName() : ""));
+            return;
+        }
+        SHARED[upper] = shared;
+        SHARED[lower] = shared;
+        PROVIDERS[upper] = provider;
+        PROVIDERS[lower] = provider;
+    }
+}
@@ -0,0 +1,89 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// Hand-rolled benchmark (this repo has no JMH setup): warm-up rounds first,
+// then the best of several measured rounds for each path.
+public class BankAccountFactoryBenchmark {
+    private static final int BATCH_SIZE = 5_000_000;
+    private static final int ROUNDS = 5;
+    private static final String[] CODES = { "P", "B", "C", "p", "b", "c" };
+
+    public static void main(String[] args) {
+        Random random = new Random(42);
+        String[] batch = new String[BATCH_SIZE];
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            batch[i] = CODES[random.nextInt(CODES.length)];
+        }
+
+        SwitchBankAccountFactory switchFactory = new SwitchBankAccountFactory();
+        BankAccountFactory registryFactory = new BankAccountFactory();
+
+        long switchNanos = best(() -> {
+            int hash = 0;
+            for (String code : batch) {
+                hash += System.identityHashCode(switchFactory.createAccount(code).getClass());
+            }
+            return hash;
+        });
+        long registryNanos = best(() -> {
+            int hash = 0;
+            for (String code : batch) {
+                hash += System.identityHashCode(registryFactory.createAccount(code).getClass());
+            }
+            return hash;
+        });
+        long bulkNanos = best(() -> registryFactory.createAccounts(batch).length);
+        long streamNanos = best(() -> registryFactory.createAccounts(Arrays.stream(batch)).size());
+
+        report("switch + toUpperCase", switchNanos);
+        report("registry lookup", registryNanos);
+        report("bulk createAccounts(String[])", bulkNanos);
+        report("bulk createAccounts(Stream)", streamNanos);
+    }
+
+    private static void report(String name, long nanos) {
+        System.out.printf("%-30s %6.2f ns/account%n", name, nanos / (double) BATCH_SIZE);
+    }
+
+    private static long best(Workload workload) {
+        long sink = 0;
+        for (int i = 0; i < ROUNDS; i++) {
+            sink += workload.run(); // warm-up
+        }
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < ROUNDS; i++) {
+            long start = System.nanoTime();
+            sink += workload.run();
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        if (sink == 42) {
+            System.out.println(); // keeps the JIT from discarding the work
+        }
+        return best;
+    }
+
+    interface Workload {
+        long run();
+    }
+}
+
+// The original switch-based factory, kept as the baseline
+class SwitchBankAccountFactory {
+    public BankAccount createAccount(String accountType) {
+        if (accountType == null || accountType.isEmpty())
+            return null;
+
+        switch (accountType.toUpperCase()) {
+            case "P":
+                return new PersonalAccount();
+            case "B":
+                return new BusinessAccount();
+            case "C":
+                return new CheckingAccount();
+            default:
+                throw new IllegalArgumentException("Unknown account type " + accountType);
+        }
+    }
+}
@@ -0,0 +1,395 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+
+public class BankAccountImporter {
+    public static void main(String[] args) throws Exception {
+        Path file;
+        int sampleLines = 10_000_000;
+        if (args.length > 0) {
+            file = Paths.get(args[0]);
+        } else {
+            file = Files.createTempFile("accounts", ".txt");
+            file.toFile().deleteOnExit();
+            writeSampleFile(file, sampleLines);
+        }
+
+        AccountFileImporter importer = new AccountFileImporter(new BankAccountFactory(), 8 * 1024 * 1024, 20);
+
+        Thread reporter = new Thread(() -> {
+            while (!Thread.currentThread().isInterrupted()) {
+                try {
+                    Thread.sleep(500);
+                } catch (InterruptedException e) {
+                    return;
+                }
+                System.out.println("  progress: " + importer.getProgress());
+            }
+        });
+        reporter.setDaemon(true);
+        reporter.start();
+
+        long start = System.nanoTime();
+        ImportResult result = importer.importFile(file, account -> {
+        });
+        long elapsed = System.nanoTime() - start;
+        reporter.interrupt();
+
+        System.out.println(result);
+        System.out.printf("Imported %d lines in %d ms (%.1f M lines/s)%n", result.getLines(), elapsed / 1_000_000,
+                result.getLines() / (elapsed / 1e3));
+        for (ImportError error : result.getErrors()) {
+            System.out.println("  " + error);
+        }
+        long byType = result.getAccountCount('P') + result.getAccountCount('B') + result.getAccountCount('C');
+        if (byType != result.getAccounts() || result.getAccounts() + result.getErrorCount() != result.getLines()
+                || (args.length == 0 && result.getLines() != sampleLines)) {
+            throw new IllegalStateException("Per-type counts, errors and lines do not add up: " + result);
+        }
+        if (importer.getProgress().lines.sum() != result.getLines()) {
+            throw new IllegalStateException("Progress must cover exactly the last import");
+        }
+
+        // A failing sink aborts the import instead of being counted as a bad line
+        try {
+            importer.importFile(file, account -> {
+                throw new UnsupportedOperationException("Sink rejected the account");
+            });
+            throw new IllegalStateException("Expected the sink failure to abort the import");
+        } catch (UnsupportedOperationException expected) {
+            System.out.println("Import aborted: " + expected.getMessage());
+        }
+    }
+
+    // One account code per line, with an occasional bad record
+    private static void writeSampleFile(Path file, int lines) throws IOException {
+        String[] codes = { "P", "B", "C", "p", "b", "c" };
+        Random random = new Random(7);
+        try (BufferedWriter writer = Files.newBufferedWriter(file)) {
+            for (int i = 0; i < lines; i++) {
+                writer.write(random.nextInt(500_000) == 0 ? "X" : codes[random.nextInt(codes.length)]);
+                writer.write('\n');
+            }
+        }
+    }
+}
+
+// Counters that can be read while an import is running
+class ImportProgress {
+    final LongAdder bytes = new LongAdder();
+    final LongAdder lines = new LongAdder();
+    final LongAdder accounts = new LongAdder();
+    final LongAdder errors = new LongAdder();
+    private final long startNanos = System.nanoTime();
+
+    @Override
+    public String toString() {
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        return String.format("%d lines, %d accounts, %d errors, %.1f MB/s", lines.sum(), accounts.sum(),
+                errors.sum(), bytes.sum() / 1e6 / seconds);
+    }
+}
+
+class ImportError {
+    private final long lineNumber;
+    private final String line;
+    private final String message;
+
+    ImportError(long lineNumber, String line, String message) {
+        this.lineNumber = lineNumber;
+        this.line = line;
+        this.message = message;
+    }
+
+    public long getLineNumber() {
+        return lineNumber;
+    }
+
+    public String getLine() {
+        return line;
+    }
+
+    public String getMessage() {
+        return message;
+    }
+
+    @Override
+    public String toString() {
+        return "line " + lineNumber + ": " + message + " [" + line + "]";
+    }
+}
+
+class ImportResult {
+    private final long lines;
+    private final long accounts;
+    private final long errorCount;
+    private final long[] accountsByCode;
+    private final List<ImportError> errors;
+
+    ImportResult(long lines, long accounts, long errorCount, long[] accountsByCode, List<ImportError> errors) {
+        this.lines = lines;
+        this.accounts = accounts;
+        this.errorCount = errorCount;
+        this.accountsByCode = accountsByCode;
+        this.errors = errors;
+    }
+
+    public long getLines() {
+        return lines;
+    }
+
+    public long getAccounts() {
+        return accounts;
+    }
+
+    public long getErrorCount() {
+        return errorCount;
+    }
+
+    // Only the first few errors are kept; getErrorCount() has the total
+    public List<ImportError> getErrors() {
+        return errors;
+    }
+
+    public long getAccountCount(char code) {
+        char upper = Character.toUpperCase(code);
+        return upper < accountsByCode.length ? accountsByCode[upper] : 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder byType = new StringBuilder();
+        for (char code = 0; code < accountsByCode.length; code++) {
+            if (accountsByCode[code] > 0) {
+                byType.append(byType.length() == 0 ? "" : ", ").append(code).append('=').append(accountsByCode[code]);
+            }
+        }
+        return "ImportResult [lines=" + lines + ", accounts=" + accounts + ", errors=" + errorCount + ", byType={"
+                + byType + "}]";
+    }
+}
+
+// Imports account registrations from a flat file with one type code per line.
+// The file is split into line-aligned chunks; fork/join tasks memory-map and
+// parse one chunk each, so memory stays bounded by the chunk size times the
+// pool's parallelism no matter how large the file is.
+class AccountFileImporter {
+    private final BankAccountFactory factory;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+    private final ForkJoinPool pool;
+    private volatile ImportProgress progress = new ImportProgress();
+
+    public AccountFileImporter(BankAccountFactory factory, int chunkSize, int maxReportedErrors) {
+        this(factory, chunkSize, maxReportedErrors, ForkJoinPool.commonPool());
+    }
+
+    public AccountFileImporter(BankAccountFactory factory, int chunkSize, int maxReportedErrors, ForkJoinPool pool) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("chunkSize must be positive");
+        }
+        this.factory = factory;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+        this.pool = pool;
+    }
+
+    // Progress of the running import, or of the last one once it has finished
+    public ImportProgress getProgress() {
+        return progress;
+    }
+
+    // The sink sees every created account and may be called from several threads at once
+    public ImportResult importFile(Path file, Consumer<BankAccount> sink) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ImportProgress current = new ImportProgress();
+            progress = current;
+            List<ChunkTask> tasks = new ArrayList<>();
+            long[] boundaries = splitIntoChunks(channel);
+            for (int i = 0; i + 1 < boundaries.length; i++) {
+                tasks.add(new ChunkTask(channel, boundaries[i], boundaries[i + 1], sink, current));
+            }
+            pool.invoke(new RecursiveAction() {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected void compute() {
+                    invokeAll(tasks);
+                }
+            });
+            return merge(tasks);
+        }
+    }
+
+    // Moves each nominal boundary forward to just after the next newline
+    private long[] splitIntoChunks(FileChannel channel) throws IOException {
+        long size = channel.size();
+        List<Long> boundaries = new ArrayList<>();
+        boundaries.add(0L);
+        ByteBuffer probe = ByteBuffer.allocate(4096);
+        long position = chunkSize;
+        while (position < size) {
+            long boundary = -1;
+            long scan = position;
+            while (boundary < 0 && scan < size) {
+                probe.clear();
+                int read = channel.read(probe, scan);
+                for (int i = 0; i < read; i++) {
+                    if (probe.get(i) == '\n') {
+                        boundary = scan + i + 1;
+                        break;
+                    }
+                }
+                scan += read;
+            }
+            if (boundary < 0 || boundary >= size) {
+                break;
+            }
+            boundaries.add(boundary);
+            position = boundary + chunkSize;
+        }
+        boundaries.add(size);
+        return boundaries.stream().mapToLong(Long::longValue).toArray();
+    }
+
+    // Line numbers are only known once every chunk has counted its lines
+    private ImportResult merge(List<ChunkTask> tasks) {
+        long lines = 0;
+        long accounts = 0;
+        long errorCount = 0;
+        long[] byCode = new long[128];
+        List<ImportError> errors = new ArrayList<>();
+        for (ChunkTask task : tasks) {
+            for (LocalError error : task.errors) {
+                if (errors.size() < maxReportedErrors) {
+                    errors.add(new ImportError(lines + error.lineInChunk + 1, error.line, error.message));
+                }
+            }
+            lines += task.lines;
+            accounts += task.accounts;
+            errorCount += task.errorCount;
+            for (int code = 0; code < byCode.length; code++) {
+                byCode[code] += task.accountsByCode[code];
+            }
+        }
+        return new ImportResult(lines, accounts, errorCount, byCode, errors);
+    }
+
+    private final class ChunkTask extends RecursiveAction {
+        private static final long serialVersionUID = 1L;
+
+        private final transient FileChannel channel;
+        private final long start;
+        private final long end;
+        private final transient Consumer<BankAccount> sink;
+        private final transient ImportProgress progress;
+
+        long lines;
+        long accounts;
+        long errorCount;
+        final long[] accountsByCode = new long[128];
+        final transient List<LocalError> errors = new ArrayList<>();
+
+        ChunkTask(FileChannel channel, long start, long end, Consumer<BankAccount> sink, ImportProgress progress) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+            this.sink = sink;
+            this.progress = progress;
+        }
+
+        @Override
+        protected void compute() {
+            MappedByteBuffer buffer;
+            try {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+            } catch (IOException e) {
+                throw new IllegalStateException("Could not map bytes " + start + "-" + end, e);
+            }
+
+            int limit = buffer.limit();
+            int lineStart = 0;
+            for (int i = 0; i <= limit; i++) {
+                if (i == limit || buffer.get(i) == '\n') {
+                    if (i > lineStart || i < limit) {
+                        parseLine(buffer, lineStart, i);
+                    }
+                    lineStart = i + 1;
+                }
+            }
+
+            progress.bytes.add(end - start);
+            progress.lines.add(lines);
+            progress.accounts.add(accounts);
+            progress.errors.add(errorCount);
+        }
+
+        private void parseLine(ByteBuffer buffer, int from, int to) {
+            long lineInChunk = lines++;
+            // Trim whitespace, including a trailing \r from Windows line endings
+            while (from < to && buffer.get(from) <= ' ') {
+                from++;
+            }
+            while (to > from && buffer.get(to - 1) <= ' ') {
+                to--;
+            }
+            if (from == to) {
+                return; // blank lines carry no record
+            }
+
+            if (to - from == 1) {
+                char code = (char) (buffer.get(from) & 0xFF);
+                BankAccount account;
+                try {
+                    account = factory.createAccount(code);
+                } catch (IllegalArgumentException e) {
+                    recordError(lineInChunk, buffer, from, to, e.getMessage());
+                    return;
+                }
+                accounts++;
+                accountsByCode[Character.toUpperCase(code)]++;
+                // Outside the try: a failing sink aborts the import instead of being counted as a bad line
+                sink.accept(account);
+                return;
+            }
+            recordError(lineInChunk, buffer, from, to, "Unknown account type");
+        }
+
+        private void recordError(long lineInChunk, ByteBuffer buffer, int from, int to, String message) {
+            errorCount++;
+            if (errors.size() < maxReportedErrors) {
+                byte[] bytes = new byte[Math.min(to - from, 80)];
+                buffer.get(from, bytes);
+                errors.add(new LocalError(lineInChunk, new String(bytes, StandardCharsets.UTF_8), message));
+            }
+        }
+    }
+
+    private static final class LocalError {
+        final long lineInChunk;
+        final String line;
+        final String message;
+
+        LocalError(long lineInChunk, String line, String message) {
+            this.lineInChunk = lineInChunk;
+            this.line = line;
+            this.message = message;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+// Service provider interface for plugging extra account types into
+// BankAccountFactory. Implementations are discovered with ServiceLoader, so
+// they must be listed in META-INF/services under this interface's name.
+public interface BankAccountProvider {
+    // One-letter, case-insensitive code the type is requested by
+    char code();
+
+    // Called for every account of this type the factory hands out. Return a
+    // shared instance only if the product is stateless.
+    BankAccount create();
+}
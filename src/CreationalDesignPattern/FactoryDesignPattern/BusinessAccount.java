@@ -0,0 +1,8 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+class BusinessAccount implements BankAccount {
+    @Override
+    public void registerAccount() {
+        System.out.println("Creating a business account");
+    }
+}
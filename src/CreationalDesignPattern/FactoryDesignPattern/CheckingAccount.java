@@ -0,0 +1,8 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+class CheckingAccount implements BankAccount {
+    @Override
+    public void registerAccount() {
+        System.out.println("Creating a checking account");
+    }
+}
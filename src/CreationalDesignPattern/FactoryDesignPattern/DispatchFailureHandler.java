@@ -0,0 +1,8 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+import java.util.List;
+
+// Called when a provider throws; the default just reports the lost batch
+interface DispatchFailureHandler {
+    void onFailure(List<NotificationMessage> batch, RuntimeException error);
+}
@@ -0,0 +1,109 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Remembers message hashes for a sliding time window. The window is split into
+// time buckets, each a fixed open-addressed table of 64-bit hashes; the oldest
+// bucket is wiped and reused as time moves on, so memory stays fixed. A full
+// table fails open (the message is treated as new).
+class DuplicateFilter {
+    private static final int BUCKETS = 4;
+    private static final int MAX_PROBES = 16;
+
+    private final long bucketNanos;
+    private final int mask;
+    private final AtomicLongArray[] tables = new AtomicLongArray[BUCKETS];
+    private final AtomicLong[] epochs = new AtomicLong[BUCKETS];
+
+    public DuplicateFilter(long windowMillis, int entriesPerBucket) {
+        this.bucketNanos = Math.max(1, TimeUnit.MILLISECONDS.toNanos(windowMillis) / (BUCKETS - 1));
+        int capacity = Integer.highestOneBit(Math.max(16, entriesPerBucket * 2 - 1)) * 2;
+        this.mask = capacity - 1;
+        for (int b = 0; b < BUCKETS; b++) {
+            tables[b] = new AtomicLongArray(capacity);
+            epochs[b] = new AtomicLong(-1);
+        }
+    }
+
+    // Reports whether the hash was recorded within the window, without recording it
+    public boolean contains(long hash, long nowNanos) {
+        long key = hash == 0 ? 1 : hash; // 0 marks an empty slot
+        long epoch = nowNanos / bucketNanos;
+        for (int age = 0; age < BUCKETS; age++) {
+            long bucketEpoch = epoch - age;
+            int slot = (int) Math.floorMod(bucketEpoch, (long) BUCKETS);
+            if (epochs[slot].get() == bucketEpoch && contains(tables[slot], key)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // Records the hash and reports whether it was already seen within the window
+    public boolean isDuplicate(long hash, long nowNanos) {
+        long key = hash == 0 ? 1 : hash;
+        long epoch = nowNanos / bucketNanos;
+
+        for (int age = 1; age < BUCKETS; age++) {
+            long olderEpoch = epoch - age;
+            int slot = (int) Math.floorMod(olderEpoch, (long) BUCKETS);
+            if (epochs[slot].get() == olderEpoch && contains(tables[slot], key)) {
+                return true;
+            }
+        }
+        return !insert(currentTable(epoch), key);
+    }
+
+    private AtomicLongArray currentTable(long epoch) {
+        int slot = (int) Math.floorMod(epoch, (long) BUCKETS);
+        AtomicLong bucketEpoch = epochs[slot];
+        long seen = bucketEpoch.get();
+        if (seen != epoch && seen < epoch && bucketEpoch.compareAndSet(seen, epoch)) {
+            // This bucket last held data from BUCKETS epochs ago; recycle it
+            AtomicLongArray table = tables[slot];
+            for (int i = 0; i < table.length(); i++) {
+                table.set(i, 0);
+            }
+        }
+        return tables[slot];
+    }
+
+    private boolean contains(AtomicLongArray table, long key) {
+        int index = (int) mix(key) & mask;
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            long value = table.get((index + probe) & mask);
+            if (value == key) {
+                return true;
+            }
+            if (value == 0) {
+                return false;
+            }
+        }
+        return false;
+    }
+
+    // Returns false if the key was already present
+    private boolean insert(AtomicLongArray table, long key) {
+        int index = (int) mix(key) & mask;
+        for (int probe = 0; probe < MAX_PROBES; probe++) {
+            int i = (index + probe) & mask;
+            long value = table.get(i);
+            if (value == 0 && table.compareAndSet(i, 0, key)) {
+                return true;
+            }
+            if (table.get(i) == key) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long mix(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h;
+    }
+}
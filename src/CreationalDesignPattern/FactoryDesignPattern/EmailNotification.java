@@ -0,0 +1,8 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+class EmailNotification implements Notification {
+    @Override
+    public void notifyUser() {
+        System.out.println("Sending an Email Notification");
+    }
+}
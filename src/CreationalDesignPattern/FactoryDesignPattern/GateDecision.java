@@ -0,0 +1,5 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+enum GateDecision {
+    ALLOW, DUPLICATE, CHANNEL_LIMITED, RECIPIENT_LIMITED
+}
@@ -0,0 +1,179 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Hashed hierarchical timing wheel: LEVELS wheels of 64 slots each, where one
+// slot of level n spans 64^n ticks. Timers go straight into the slot for their
+// deadline (O(1) insert), each slot is a doubly-linked list (O(1) cancel), and
+// a slot of a coarser wheel is cascaded into finer ones when time reaches it.
+class HierarchicalTimingWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOTS = 1 << SLOT_BITS;
+    private static final int LEVELS = 4;
+
+    private final long tickNanos;
+    private final Executor taskExecutor;
+    private final ReentrantLock lock = new ReentrantLock();
+    // wheels[level][slot] holds the head of that slot's list in a one-element array
+    private final WheelTimeout[][][] wheels = new WheelTimeout[LEVELS][SLOTS][];
+    private final long startNanos = System.nanoTime();
+    private long currentTick;
+    private int pending;
+    private volatile Thread driver;
+
+    public HierarchicalTimingWheel(long tickDuration, TimeUnit unit, Executor taskExecutor) {
+        this.tickNanos = Math.max(1, unit.toNanos(tickDuration));
+        this.taskExecutor = taskExecutor;
+        for (int level = 0; level < LEVELS; level++) {
+            for (int slot = 0; slot < SLOTS; slot++) {
+                wheels[level][slot] = new WheelTimeout[1];
+            }
+        }
+    }
+
+    public WheelTimeout schedule(Runnable task, long delay, TimeUnit unit) {
+        long ticks = Math.max(1, (unit.toNanos(delay) + tickNanos - 1) / tickNanos);
+        lock.lock();
+        try {
+            WheelTimeout timeout = new WheelTimeout(this, currentTick + ticks, task);
+            place(timeout);
+            pending++;
+            return timeout;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    boolean cancel(WheelTimeout timeout) {
+        lock.lock();
+        try {
+            if (timeout.bucketHead == null) {
+                return false; // already fired or cancelled
+            }
+            unlink(timeout);
+            timeout.cancelled = true;
+            pending--;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getPendingCount() {
+        lock.lock();
+        try {
+            return pending;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Drives the wheel from a daemon thread, catching up on ticks after a late wake-up
+    public void start() {
+        Thread thread = new Thread(() -> {
+            while (driver == Thread.currentThread()) {
+                long targetTick = (System.nanoTime() - startNanos) / tickNanos;
+                advanceTo(targetTick);
+                long sleepNanos = startNanos + (targetTick + 1) * tickNanos - System.nanoTime();
+                if (sleepNanos > 0) {
+                    try {
+                        TimeUnit.NANOSECONDS.sleep(sleepNanos);
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                }
+            }
+        }, "timing-wheel");
+        thread.setDaemon(true);
+        driver = thread;
+        thread.start();
+    }
+
+    public void stop() {
+        Thread thread = driver;
+        driver = null;
+        if (thread != null) {
+            thread.interrupt();
+        }
+    }
+
+    // Advances tick by tick and runs every timer that expires on the way
+    public void advanceTo(long targetTick) {
+        List<Runnable> expired = new ArrayList<>();
+        lock.lock();
+        try {
+            while (currentTick < targetTick) {
+                currentTick++;
+                cascade(currentTick);
+                WheelTimeout[] head = wheels[0][(int) (currentTick & (SLOTS - 1))];
+                while (head[0] != null) {
+                    WheelTimeout timeout = head[0];
+                    unlink(timeout);
+                    pending--;
+                    expired.add(timeout.task);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        for (Runnable task : expired) {
+            taskExecutor.execute(task);
+        }
+    }
+
+    // When the finer wheel wraps around, redistribute the next slot of the coarser one
+    private void cascade(long tick) {
+        for (int level = 1; level < LEVELS; level++) {
+            if ((tick & ((1L << (SLOT_BITS * level)) - 1)) != 0) {
+                return;
+            }
+            WheelTimeout[] head = wheels[level][(int) ((tick >>> (SLOT_BITS * level)) & (SLOTS - 1))];
+            while (head[0] != null) {
+                WheelTimeout timeout = head[0];
+                unlink(timeout);
+                place(timeout);
+            }
+        }
+    }
+
+    private void place(WheelTimeout timeout) {
+        long remaining = timeout.deadlineTick - currentTick;
+        long placementTick = timeout.deadlineTick;
+        int level = 0;
+        while (level < LEVELS - 1 && remaining >= 1L << (SLOT_BITS * (level + 1))) {
+            level++;
+        }
+        long maxSpan = (1L << (SLOT_BITS * LEVELS)) - 1;
+        if (remaining > maxSpan) {
+            // Beyond the outermost wheel: park in its furthest slot and re-place on cascade
+            placementTick = currentTick + maxSpan;
+        }
+        int slot = (int) ((placementTick >>> (SLOT_BITS * level)) & (SLOTS - 1));
+        WheelTimeout[] head = wheels[level][slot];
+        timeout.previous = null;
+        timeout.next = head[0];
+        if (head[0] != null) {
+            head[0].previous = timeout;
+        }
+        head[0] = timeout;
+        timeout.bucketHead = head;
+    }
+
+    private void unlink(WheelTimeout timeout) {
+        if (timeout.previous != null) {
+            timeout.previous.next = timeout.next;
+        } else {
+            timeout.bucketHead[0] = timeout.next;
+        }
+        if (timeout.next != null) {
+            timeout.next.previous = timeout.previous;
+        }
+        timeout.previous = null;
+        timeout.next = null;
+        timeout.bucketHead = null;
+    }
+}
@@ -0,0 +1,5 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+interface Notification {
+    void notifyUser();
+}
@@ -0,0 +1,25 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+enum NotificationChannel {
+    EMAIL("email"), SMS("sms"), PUSH("push");
+
+    private final String type;
+
+    NotificationChannel(String type) {
+        this.type = type;
+    }
+
+    // Same type names NotificationFactory accepts
+    public String getType() {
+        return type;
+    }
+
+    public static NotificationChannel forType(String type) {
+        for (NotificationChannel channel : values()) {
+            if (channel.type.equalsIgnoreCase(type)) {
+                return channel;
+            }
+        }
+        throw new IllegalArgumentException("Unknown notification type " + type);
+    }
+}
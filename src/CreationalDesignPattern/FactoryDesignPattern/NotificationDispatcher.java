@@ -0,0 +1,270 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Asynchronous fan-out over NotificationProviders. Each channel has its own
+// bounded queue and worker threads; a worker sends a batch once it is full or
+// maxLingerMillis after its first message was picked up. Producers block
+// when a channel's queue is full, which pushes back on bursts. Messages can
+// be submitted by notification type, in which case the product comes from
+// the dispatcher's NotificationFactory. After shutdown() new messages are
+// rejected, and everything accepted before it is still sent.
+class NotificationDispatcher {
+    private final NotificationFactory factory;
+    private final int queueCapacity;
+    private final int maxBatchSize;
+    private final long maxLingerNanos;
+    private final int workersPerChannel;
+
+    private final Map<NotificationChannel, BlockingQueue<NotificationMessage>> queues = new EnumMap<>(
+            NotificationChannel.class);
+    private final Map<NotificationChannel, NotificationProvider> providers = new EnumMap<>(NotificationChannel.class);
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile DispatchFailureHandler failureHandler = (batch, error) -> System.out
+            .println("Dropped batch of " + batch.size() + " notifications: " + error.getMessage());
+    private volatile NotificationGate gate;
+    private volatile boolean started;
+    private volatile boolean shutdown;
+    // Submits between their shutdown check and their enqueue; workers wait for them before exiting
+    private final AtomicInteger submitting = new AtomicInteger();
+
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder backpressure = new LongAdder();
+    private final LongAdder suppressed = new LongAdder();
+
+    public NotificationDispatcher(int queueCapacity, int maxBatchSize, long maxLingerMillis, int workersPerChannel) {
+        this(new NotificationFactory(), queueCapacity, maxBatchSize, maxLingerMillis, workersPerChannel);
+    }
+
+    public NotificationDispatcher(NotificationFactory factory, int queueCapacity, int maxBatchSize,
+            long maxLingerMillis, int workersPerChannel) {
+        if (queueCapacity <= 0 || maxBatchSize <= 0 || maxLingerMillis < 0 || workersPerChannel <= 0) {
+            throw new IllegalArgumentException("Invalid dispatcher settings");
+        }
+        this.factory = factory;
+        this.queueCapacity = queueCapacity;
+        this.maxBatchSize = maxBatchSize;
+        this.maxLingerNanos = TimeUnit.MILLISECONDS.toNanos(maxLingerMillis);
+        this.workersPerChannel = workersPerChannel;
+    }
+
+    public void registerProvider(NotificationChannel channel, NotificationProvider provider) {
+        if (started) {
+            throw new IllegalStateException("Providers must be registered before start()");
+        }
+        providers.put(channel, provider);
+        queues.put(channel, new ArrayBlockingQueue<>(queueCapacity));
+    }
+
+    public void setFailureHandler(DispatchFailureHandler failureHandler) {
+        this.failureHandler = failureHandler;
+    }
+
+    // Optional rate limiting / deduplication applied before a message is queued
+    public void setGate(NotificationGate gate) {
+        this.gate = gate;
+    }
+
+    public synchronized void start() {
+        if (started) {
+            throw new IllegalStateException("Dispatcher is already started");
+        }
+        started = true;
+        for (NotificationChannel channel : providers.keySet()) {
+            for (int w = 0; w < workersPerChannel; w++) {
+                Thread worker = new Thread(() -> runWorker(channel),
+                        "notification-" + channel.getType() + "-" + w);
+                workers.add(worker);
+                worker.start();
+            }
+        }
+    }
+
+    // Creates the message's Notification with the factory; unknown types are rejected like the factory does
+    public SubmitResult submit(String type, String recipient, String body) {
+        Notification notification = factory.createNotification(type);
+        if (notification == null) {
+            throw new IllegalArgumentException("Notification type is required");
+        }
+        return submit(new NotificationMessage(NotificationChannel.forType(type), notification, recipient, body));
+    }
+
+    // Blocks while the channel's queue is full. A message rejected by the gate
+    // is dropped, and the result says why.
+    public SubmitResult submit(NotificationMessage message) {
+        BlockingQueue<NotificationMessage> queue = queueFor(message.getChannel());
+        enterSubmit();
+        try {
+            SubmitResult admission = admit(message);
+            if (admission != SubmitResult.QUEUED || queue.offer(message)) {
+                return admission;
+            }
+            backpressure.increment();
+            queue.put(message);
+            return SubmitResult.QUEUED;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while queueing a notification", e);
+        } finally {
+            submitting.decrementAndGet();
+        }
+    }
+
+    // Like submit(), but returns TIMED_OUT instead of blocking past the timeout
+    public SubmitResult trySubmit(NotificationMessage message, long timeout, TimeUnit unit)
+            throws InterruptedException {
+        BlockingQueue<NotificationMessage> queue = queueFor(message.getChannel());
+        enterSubmit();
+        try {
+            SubmitResult admission = admit(message);
+            if (admission != SubmitResult.QUEUED || queue.offer(message)) {
+                return admission;
+            }
+            backpressure.increment();
+            return queue.offer(message, timeout, unit) ? SubmitResult.QUEUED : SubmitResult.TIMED_OUT;
+        } finally {
+            submitting.decrementAndGet();
+        }
+    }
+
+    // Puts back a message that was already admitted once, e.g. a retry after a
+    // failed batch. The gate is skipped: it would see the retry as a duplicate
+    // of its first attempt. Never blocks; returns false when the queue is full.
+    boolean requeue(NotificationMessage message) {
+        BlockingQueue<NotificationMessage> queue = queueFor(message.getChannel());
+        enterSubmit();
+        try {
+            return queue.offer(message);
+        } finally {
+            submitting.decrementAndGet();
+        }
+    }
+
+    // Stops accepting messages and lets the workers drain whatever is queued.
+    // Workers still running at the deadline are interrupted. Returns whether
+    // every worker finished in time.
+    public boolean shutdown(long timeout, TimeUnit unit) throws InterruptedException {
+        shutdown = true;
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        boolean finished = true;
+        for (Thread worker : workers) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining > 0) {
+                TimeUnit.NANOSECONDS.timedJoin(worker, remaining);
+            }
+            if (worker.isAlive()) {
+                worker.interrupt();
+                finished = false;
+            }
+        }
+        return finished;
+    }
+
+    public int getQueueDepth(NotificationChannel channel) {
+        return queueFor(channel).size();
+    }
+
+    public long getSentCount() {
+        return sent.sum();
+    }
+
+    public long getBatchCount() {
+        return batches.sum();
+    }
+
+    public long getBackpressureCount() {
+        return backpressure.sum();
+    }
+
+    public long getSuppressedCount() {
+        return suppressed.sum();
+    }
+
+    private void enterSubmit() {
+        submitting.incrementAndGet();
+        if (shutdown) {
+            submitting.decrementAndGet();
+            throw new IllegalStateException("Dispatcher is shut down");
+        }
+    }
+
+    private SubmitResult admit(NotificationMessage message) {
+        NotificationGate currentGate = gate;
+        GateDecision decision = currentGate == null ? GateDecision.ALLOW : currentGate.check(message);
+        if (decision == GateDecision.ALLOW) {
+            return SubmitResult.QUEUED;
+        }
+        suppressed.increment();
+        switch (decision) {
+            case DUPLICATE:
+                return SubmitResult.DUPLICATE;
+            case RECIPIENT_LIMITED:
+                return SubmitResult.RECIPIENT_LIMITED;
+            default:
+                return SubmitResult.CHANNEL_LIMITED;
+        }
+    }
+
+    private BlockingQueue<NotificationMessage> queueFor(NotificationChannel channel) {
+        BlockingQueue<NotificationMessage> queue = queues.get(channel);
+        if (queue == null) {
+            throw new IllegalArgumentException("No provider registered for " + channel);
+        }
+        return queue;
+    }
+
+    private void runWorker(NotificationChannel channel) {
+        BlockingQueue<NotificationMessage> queue = queues.get(channel);
+        NotificationProvider provider = providers.get(channel);
+        List<NotificationMessage> batch = new ArrayList<>(maxBatchSize);
+
+        try {
+            while (true) {
+                NotificationMessage first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    // Checked in this order, no accepted message can arrive after the queue is seen empty
+                    if (shutdown && submitting.get() == 0 && queue.isEmpty()) {
+                        return;
+                    }
+                    continue;
+                }
+                batch.add(first);
+                long deadline = System.nanoTime() + maxLingerNanos;
+                while (batch.size() < maxBatchSize) {
+                    if (queue.drainTo(batch, maxBatchSize - batch.size()) > 0) {
+                        continue;
+                    }
+                    long remaining = deadline - System.nanoTime();
+                    NotificationMessage next = remaining > 0 ? queue.poll(remaining, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                send(provider, batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void send(NotificationProvider provider, List<NotificationMessage> batch) {
+        try {
+            provider.sendBatch(batch);
+            sent.add(batch.size());
+            batches.increment();
+        } catch (RuntimeException e) {
+            failureHandler.onFailure(batch, e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class NotificationDispatcherDemo {
+    private static final int MESSAGES = 300_000;
+    private static final int PRODUCERS = 4;
+
+    public static void main(String[] args) throws InterruptedException {
+        NotificationDispatcher dispatcher = new NotificationDispatcher(10_000, 500, 20, 2);
+        Map<NotificationChannel, SimulatedNotificationProvider> providers = new EnumMap<>(NotificationChannel.class);
+        for (NotificationChannel channel : NotificationChannel.values()) {
+            // Every provider call costs 5 ms of round trip plus 10 us per message
+            SimulatedNotificationProvider provider = new SimulatedNotificationProvider(5_000, 10);
+            providers.put(channel, provider);
+            dispatcher.registerProvider(channel, provider);
+        }
+        dispatcher.start();
+
+        long start = System.nanoTime();
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < PRODUCERS; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                NotificationChannel[] channels = NotificationChannel.values();
+                for (int i = producer; i < MESSAGES; i += PRODUCERS) {
+                    dispatcher.submit(new NotificationMessage(channels[i % channels.length], "user-" + i,
+                            "Your order " + i + " has shipped"));
+                }
+            });
+            producers.add(thread);
+            thread.start();
+        }
+        for (Thread thread : producers) {
+            thread.join();
+        }
+        dispatcher.shutdown(30, TimeUnit.SECONDS);
+        long elapsed = System.nanoTime() - start;
+
+        System.out.printf("Dispatched %d messages in %d ms (%.0f messages/min)%n", dispatcher.getSentCount(),
+                elapsed / 1_000_000, dispatcher.getSentCount() / (elapsed / 6e10));
+        System.out.println("Provider calls: " + dispatcher.getBatchCount() + ", producer waits on full queues: "
+                + dispatcher.getBackpressureCount());
+        System.out.printf("Sending one message per call would take about %d s%n",
+                MESSAGES * providers.get(NotificationChannel.EMAIL).costMicros(1) / 1_000_000
+                        / NotificationChannel.values().length / 2);
+
+        // The same dispatcher in front of the NotificationFactory products
+        NotificationDispatcher products = new NotificationDispatcher(new NotificationFactory(), 100, 10, 5, 1);
+        products.registerProvider(NotificationChannel.EMAIL, new NotifyUserProvider());
+        products.registerProvider(NotificationChannel.SMS, new NotifyUserProvider());
+        products.start();
+        products.submit("email", "user-1", "Welcome aboard");
+        products.submit("SMS", "+15550100", "Your code is 123456");
+        products.shutdown(5, TimeUnit.SECONDS);
+        boolean rejected = false;
+        try {
+            products.submit("email", "user-2", "Too late");
+        } catch (IllegalStateException expected) {
+            System.out.println("Rejected: " + expected.getMessage());
+            rejected = true;
+        }
+        if (!rejected) {
+            throw new IllegalStateException("Expected submit after shutdown to be rejected");
+        }
+    }
+}
+
+// Delivers each message of a batch through its Notification, one
+// notifyUser() call at a time, the way NotificationService sends today
+class NotifyUserProvider implements NotificationProvider {
+    @Override
+    public void sendBatch(List<NotificationMessage> batch) {
+        for (NotificationMessage message : batch) {
+            message.getNotification().notifyUser();
+        }
+    }
+}
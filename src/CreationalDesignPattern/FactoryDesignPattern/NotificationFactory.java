@@ -0,0 +1,24 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+// The notifications are stateless, so one shared instance per type is handed out
+class NotificationFactory {
+    private static final Notification SMS = new SMSNotification();
+    private static final Notification EMAIL = new EmailNotification();
+    private static final Notification PUSH = new PushNotification();
+
+    public Notification createNotification(String type) {
+        if (type == null || type.isEmpty())
+            return null;
+
+        switch (type.toLowerCase()) {
+            case "sms":
+                return SMS;
+            case "email":
+                return EMAIL;
+            case "push":
+                return PUSH;
+            default:
+                throw new IllegalArgumentException("Unknown notification type " + type);
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+// Decides whether a notification may go out: duplicates inside the window are
+// dropped first, then per-recipient and per-channel token buckets are applied.
+// Only an allowed message is remembered for deduplication and keeps its
+// tokens, so a throttled message can be sent again later, and a recipient is
+// not charged when the channel limit rejects its message. Recipients are
+// hashed onto a fixed array of buckets, so the decision path never
+// allocates; recipients that collide share one (stricter) limit.
+class NotificationGate {
+    private static final int RECIPIENT_STRIPES = 1 << 16;
+
+    private final DuplicateFilter duplicates;
+    private final Map<NotificationChannel, TokenBucket> channelLimits = new EnumMap<>(NotificationChannel.class);
+    private final Map<NotificationChannel, TokenBucket[]> recipientLimits = new EnumMap<>(NotificationChannel.class);
+    private final AtomicLongArray decisions = new AtomicLongArray(GateDecision.values().length);
+
+    public NotificationGate(long dedupWindowMillis) {
+        this.duplicates = new DuplicateFilter(dedupWindowMillis, 1 << 16);
+    }
+
+    public void limitChannel(NotificationChannel channel, double messagesPerSecond, int burst) {
+        channelLimits.put(channel, new TokenBucket(messagesPerSecond, burst));
+    }
+
+    public void limitRecipients(NotificationChannel channel, double messagesPerSecond, int burst) {
+        TokenBucket[] buckets = new TokenBucket[RECIPIENT_STRIPES];
+        for (int i = 0; i < buckets.length; i++) {
+            buckets[i] = new TokenBucket(messagesPerSecond, burst);
+        }
+        recipientLimits.put(channel, buckets);
+    }
+
+    public GateDecision check(NotificationMessage message) {
+        GateDecision decision = decide(message, System.nanoTime());
+        decisions.incrementAndGet(decision.ordinal());
+        return decision;
+    }
+
+    public long getDecisionCount(GateDecision decision) {
+        return decisions.get(decision.ordinal());
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("NotificationGate [");
+        for (GateDecision decision : GateDecision.values()) {
+            sb.append(decision == GateDecision.ALLOW ? "" : ", ").append(decision).append('=')
+                    .append(getDecisionCount(decision));
+        }
+        return sb.append(']').toString();
+    }
+
+    private GateDecision decide(NotificationMessage message, long now) {
+        NotificationChannel channel = message.getChannel();
+        long recipientHash = hash(message.getRecipient(), channel.ordinal());
+        long fingerprint = hash(message.getBody(), recipientHash);
+        if (duplicates.contains(fingerprint, now)) {
+            return GateDecision.DUPLICATE;
+        }
+        TokenBucket[] recipients = recipientLimits.get(channel);
+        TokenBucket recipient = recipients != null ? recipients[(int) recipientHash & (RECIPIENT_STRIPES - 1)] : null;
+        if (recipient != null && !recipient.tryAcquire(now)) {
+            return GateDecision.RECIPIENT_LIMITED;
+        }
+        TokenBucket channelLimit = channelLimits.get(channel);
+        if (channelLimit != null && !channelLimit.tryAcquire(now)) {
+            if (recipient != null) {
+                recipient.release();
+            }
+            return GateDecision.CHANNEL_LIMITED;
+        }
+        // Recorded last; an identical message allowed concurrently wins and this one gives its tokens back
+        if (duplicates.isDuplicate(fingerprint, now)) {
+            if (recipient != null) {
+                recipient.release();
+            }
+            if (channelLimit != null) {
+                channelLimit.release();
+            }
+            return GateDecision.DUPLICATE;
+        }
+        return GateDecision.ALLOW;
+    }
+
+    // 64-bit FNV-1a over the characters, chained from a seed
+    private static long hash(String value, long seed) {
+        long h = 0xcbf29ce484222325L ^ seed;
+        for (int i = 0; i < value.length(); i++) {
+            h ^= value.charAt(i);
+            h *= 0x100000001b3L;
+        }
+        return h;
+    }
+}
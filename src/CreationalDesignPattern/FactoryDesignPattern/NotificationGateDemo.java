@@ -0,0 +1,69 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+public class NotificationGateDemo {
+    public static void main(String[] args) throws InterruptedException {
+        // SMS provider allows 100 msgs/s overall, each recipient 1 msg/s (burst 5), duplicates suppressed for 60 s
+        NotificationGate gate = new NotificationGate(TimeUnit.SECONDS.toMillis(60));
+        gate.limitChannel(NotificationChannel.SMS, 100, 100);
+        gate.limitRecipients(NotificationChannel.SMS, 1, 5);
+
+        NotificationDispatcher dispatcher = new NotificationDispatcher(1_000, 100, 10, 1);
+        SimulatedNotificationProvider sms = new SimulatedNotificationProvider(2_000, 10);
+        dispatcher.registerProvider(NotificationChannel.SMS, sms);
+        dispatcher.setGate(gate);
+        dispatcher.start();
+
+        // Incident: the same alert fires 10,000 times for the on-call engineer...
+        Map<SubmitResult, Integer> results = new EnumMap<>(SubmitResult.class);
+        for (int i = 0; i < 10_000; i++) {
+            results.merge(dispatcher.submit(new NotificationMessage(NotificationChannel.SMS, "+15550100",
+                    "DB primary is down")), 1, Integer::sum);
+        }
+        // ...plus a handful of distinct updates for the same person and for other people
+        for (int i = 0; i < 10; i++) {
+            results.merge(dispatcher.submit(new NotificationMessage(NotificationChannel.SMS, "+15550100",
+                    "Update " + i)), 1, Integer::sum);
+        }
+        for (int i = 0; i < 500; i++) {
+            results.merge(dispatcher.submit(new NotificationMessage(NotificationChannel.SMS, "+1555" + (2000 + i),
+                    "DB primary is down")), 1, Integer::sum);
+        }
+        dispatcher.shutdown(10, TimeUnit.SECONDS);
+
+        System.out.println("Delivered to provider: " + sms.getDeliveredCount() + ", suppressed: "
+                + dispatcher.getSuppressedCount() + ", submit results: " + results);
+        System.out.println(gate);
+
+        // A throttled message is neither remembered as sent nor charged to its recipient
+        NotificationGate strict = new NotificationGate(TimeUnit.SECONDS.toMillis(60));
+        strict.limitChannel(NotificationChannel.SMS, 1, 1);
+        strict.limitRecipients(NotificationChannel.SMS, 0.01, 1);
+        NotificationMessage first = new NotificationMessage(NotificationChannel.SMS, "+15550101", "Deploy started");
+        NotificationMessage second = new NotificationMessage(NotificationChannel.SMS, "+15550102", "Deploy started");
+        expect(strict.check(first), GateDecision.ALLOW);
+        expect(strict.check(second), GateDecision.CHANNEL_LIMITED);
+        Thread.sleep(1_100);
+        expect(strict.check(second), GateDecision.ALLOW);
+        expect(strict.check(first), GateDecision.DUPLICATE);
+        System.out.println("Resend after throttling: " + strict);
+
+        // Cost of a single gate decision
+        NotificationMessage message = new NotificationMessage(NotificationChannel.PUSH, "user-1", "hello");
+        int iterations = 5_000_000;
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            gate.check(message);
+        }
+        System.out.printf("Gate decision: %.1f ns%n", (System.nanoTime() - start) / (double) iterations);
+    }
+
+    private static void expect(GateDecision actual, GateDecision expected) {
+        if (actual != expected) {
+            throw new IllegalStateException("Expected " + expected + " but the gate decided " + actual);
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+class NotificationMessage {
+    private static final NotificationFactory PRODUCTS = new NotificationFactory();
+
+    private final NotificationChannel channel;
+    private final Notification notification;
+    private final String recipient;
+    private final String body;
+    private final AtomicInteger failedAttempts = new AtomicInteger();
+
+    // Uses the default NotificationFactory product for the channel
+    public NotificationMessage(NotificationChannel channel, String recipient, String body) {
+        this(channel, PRODUCTS.createNotification(channel.getType()), recipient, body);
+    }
+
+    public NotificationMessage(NotificationChannel channel, Notification notification, String recipient, String body) {
+        this.channel = channel;
+        this.notification = notification;
+        this.recipient = recipient;
+        this.body = body;
+    }
+
+    public NotificationChannel getChannel() {
+        return channel;
+    }
+
+    // The factory-created product that delivers this message
+    public Notification getNotification() {
+        return notification;
+    }
+
+    public String getRecipient() {
+        return recipient;
+    }
+
+    public String getBody() {
+        return body;
+    }
+
+    public int getFailedAttempts() {
+        return failedAttempts.get();
+    }
+
+    // Returns the number of failed delivery attempts including this one
+    public int recordFailedAttempt() {
+        return failedAttempts.incrementAndGet();
+    }
+
+    @Override
+    public String toString() {
+        return "NotificationMessage [channel=" + channel + ", recipient=" + recipient + ", body=" + body + "]";
+    }
+}
@@ -0,0 +1,9 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+import java.util.List;
+
+// A delivery backend for one channel. The batch list is reused by the
+// dispatcher after the call returns, so providers must not keep it.
+interface NotificationProvider {
+    void sendBatch(List<NotificationMessage> batch);
+}
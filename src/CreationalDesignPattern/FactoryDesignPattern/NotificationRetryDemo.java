@@ -0,0 +1,126 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class NotificationRetryDemo {
+    public static void main(String[] args) throws InterruptedException {
+        HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(1, TimeUnit.MILLISECONDS, Runnable::run);
+        wheel.start();
+
+        NotificationDispatcher dispatcher = new NotificationDispatcher(10_000, 50, 5, 2);
+        SimulatedNotificationProvider email = new SimulatedNotificationProvider(1_000, 5);
+        // 30% of provider calls fail
+        dispatcher.registerProvider(NotificationChannel.EMAIL, new FlakyNotificationProvider(email, 0.3));
+        NotificationRetryPolicy retries = new NotificationRetryPolicy(dispatcher, wheel, 5, 10, 2_000);
+        dispatcher.setFailureHandler(retries);
+        // Retries bypass the gate, so its dedup window does not swallow them
+        NotificationGate gate = new NotificationGate(TimeUnit.MINUTES.toMillis(5));
+        dispatcher.setGate(gate);
+        dispatcher.start();
+
+        int messages = 20_000;
+        for (int i = 0; i < messages; i++) {
+            dispatcher.submit(new NotificationMessage(NotificationChannel.EMAIL, "user-" + i, "Receipt #" + i));
+        }
+        // Wait until every message was either delivered or given up on
+        while (email.getDeliveredCount() + retries.getGivenUpCount() < messages) {
+            Thread.sleep(50);
+        }
+        dispatcher.shutdown(5, TimeUnit.SECONDS);
+        wheel.stop();
+
+        System.out.println("Delivered: " + email.getDeliveredCount() + " of " + messages + ", retries scheduled: "
+                + retries.getScheduledCount() + ", given up: " + retries.getGivenUpCount());
+        System.out.println(gate);
+        if (email.getDeliveredCount() + retries.getGivenUpCount() != messages) {
+            throw new IllegalStateException("Every message must be delivered or given up exactly once");
+        }
+    }
+}
+
+// Wraps a provider and fails a configurable share of calls, to exercise retries locally
+class FlakyNotificationProvider implements NotificationProvider {
+    private final NotificationProvider delegate;
+    private final double failureRate;
+
+    public FlakyNotificationProvider(NotificationProvider delegate, double failureRate) {
+        this.delegate = delegate;
+        this.failureRate = failureRate;
+    }
+
+    @Override
+    public void sendBatch(List<NotificationMessage> batch) {
+        if (ThreadLocalRandom.current().nextDouble() < failureRate) {
+            throw new IllegalStateException("Provider unavailable");
+        }
+        delegate.sendBatch(batch);
+    }
+}
+
+// Re-submits the messages of a failed batch after an exponential backoff with
+// full jitter (a random delay between 0 and base * 2^attempt, capped). Timers
+// live on a hierarchical timing wheel, so scheduling a retry is O(1).
+class NotificationRetryPolicy implements DispatchFailureHandler {
+    private final NotificationDispatcher dispatcher;
+    private final HierarchicalTimingWheel wheel;
+    private final int maxAttempts;
+    private final long baseDelayMillis;
+    private final long maxDelayMillis;
+    private final LongAdder scheduled = new LongAdder();
+    private final LongAdder givenUp = new LongAdder();
+
+    public NotificationRetryPolicy(NotificationDispatcher dispatcher, HierarchicalTimingWheel wheel, int maxAttempts,
+            long baseDelayMillis, long maxDelayMillis) {
+        this.dispatcher = dispatcher;
+        this.wheel = wheel;
+        this.maxAttempts = maxAttempts;
+        this.baseDelayMillis = baseDelayMillis;
+        this.maxDelayMillis = maxDelayMillis;
+    }
+
+    @Override
+    public void onFailure(List<NotificationMessage> batch, RuntimeException error) {
+        for (NotificationMessage message : batch) {
+            int attempts = message.recordFailedAttempt();
+            if (attempts >= maxAttempts) {
+                givenUp.increment();
+                System.out.println("Giving up on " + message + " after " + attempts + " attempts: " + error.getMessage());
+            } else {
+                scheduleRetry(message, attempts);
+            }
+        }
+    }
+
+    public long getScheduledCount() {
+        return scheduled.sum();
+    }
+
+    public long getGivenUpCount() {
+        return givenUp.sum();
+    }
+
+    private void scheduleRetry(NotificationMessage message, int attempts) {
+        long ceiling = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempts - 1, 30));
+        long delay = 1 + ThreadLocalRandom.current().nextLong(ceiling);
+        scheduled.increment();
+        wheel.schedule(() -> resubmit(message, attempts), delay, TimeUnit.MILLISECONDS);
+    }
+
+    // Runs on the wheel thread, which must never block on a full queue
+    private void resubmit(NotificationMessage message, int attempts) {
+        boolean queued;
+        try {
+            queued = dispatcher.requeue(message);
+        } catch (IllegalStateException e) {
+            givenUp.increment();
+            System.out.println("Giving up on " + message + " after " + attempts + " attempts: " + e.getMessage());
+            return;
+        }
+        if (!queued) {
+            scheduleRetry(message, attempts);
+        }
+    }
+}
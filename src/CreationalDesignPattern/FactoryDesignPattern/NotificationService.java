@@ -1,48 +1,5 @@
 package CreationalDesignPattern.FactoryDesignPattern;
 
-interface Notification {
-    void notifyUser();
-}
-
-class EmailNotification implements Notification {
-    @Override
-    public void notifyUser() {
-        System.out.println("Sending an Email Notification");
-    }
-}
-
-class SMSNotification implements Notification {
-    @Override
-    public void notifyUser() {
-        System.out.println("Sending an SMS Notification");
-    }
-}
-
-class PushNotification implements Notification {
-    @Override
-    public void notifyUser() {
-        System.out.println("Sending a Push Notification");
-    }
-}
-
-class NotificationFactory {
-    public Notification createNotification(String type) {
-        if (type == null || type.isEmpty())
-            return null;
-
-        switch (type.toLowerCase()) {
-            case "sms":
-                return new SMSNotification();
-            case "email":
-                return new EmailNotification();
-            case "push":
-                return new PushNotification();
-            default:
-                throw new IllegalArgumentException("Unknown notification type " + type);
-        }
-    }
-}
-
 public class NotificationService {
 
     public static void main(String[] args) {
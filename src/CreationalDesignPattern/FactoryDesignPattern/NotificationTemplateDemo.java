@@ -0,0 +1,223 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class NotificationTemplateDemo {
+    private static final int RECIPIENTS = 1_000_000;
+
+    public static void main(String[] args) {
+        NotificationTemplateEngine engine = new NotificationTemplateEngine(100);
+        engine.register("shipped", "Hi {{name}}, your order {{orderId}} has shipped and arrives on {{date}}.");
+
+        NotificationMessage message = engine.render(NotificationChannel.EMAIL, "jane@example.com", "shipped",
+                "Jane", "A-1001", "Friday");
+        System.out.println(message.getBody());
+
+        String[][] rows = new String[RECIPIENTS][];
+        for (int i = 0; i < RECIPIENTS; i++) {
+            rows[i] = new String[] { "User" + i, "A-" + i, "Monday" };
+        }
+        String source = engine.getSource("shipped");
+
+        for (int round = 0; round < 3; round++) {
+            long[] checksum = { 0 };
+            long start = System.nanoTime();
+            engine.renderAll("shipped", rows, (row, text) -> checksum[0] += text.length());
+            long compiledNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            for (String[] row : rows) {
+                // What each recipient costs without compilation: re-scan the template every time
+                String text = source.replace("{{name}}", row[0]).replace("{{orderId}}", row[1])
+                        .replace("{{date}}", row[2]);
+                checksum[0] -= text.length();
+            }
+            long naiveNanos = System.nanoTime() - start;
+
+            System.out.printf("compiled render %5.1f ns/message, String.replace %5.1f ns/message (check %d)%n",
+                    compiledNanos / (double) RECIPIENTS, naiveNanos / (double) RECIPIENTS, checksum[0]);
+        }
+    }
+}
+
+// A template parsed once into alternating literal and placeholder segments:
+// literals[0] value[0] literals[1] value[1] ... literals[n]
+class CompiledTemplate {
+    private final String[] literals;
+    private final byte[][] literalUtf8;
+    private final int[] slots;
+    private final String[] placeholderNames;
+
+    private CompiledTemplate(String[] literals, int[] slots, String[] placeholderNames) {
+        this.literals = literals;
+        this.slots = slots;
+        this.placeholderNames = placeholderNames;
+        this.literalUtf8 = new byte[literals.length][];
+        for (int i = 0; i < literals.length; i++) {
+            literalUtf8[i] = literals[i].getBytes(StandardCharsets.UTF_8);
+        }
+    }
+
+    // Placeholders look like {{name}}; a repeated name maps to the same value slot
+    public static CompiledTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        int position = 0;
+        while (true) {
+            int open = source.indexOf("{{", position);
+            if (open < 0) {
+                break;
+            }
+            int close = source.indexOf("}}", open + 2);
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at index " + open);
+            }
+            String name = source.substring(open + 2, close).trim();
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("Empty placeholder at index " + open);
+            }
+            int slot = names.indexOf(name);
+            if (slot < 0) {
+                slot = names.size();
+                names.add(name);
+            }
+            literals.add(source.substring(position, open));
+            slots.add(slot);
+            position = close + 2;
+        }
+        literals.add(source.substring(position));
+        return new CompiledTemplate(literals.toArray(new String[0]), slots.stream().mapToInt(Integer::intValue).toArray(),
+                names.toArray(new String[0]));
+    }
+
+    // Values are given in placeholder order, see getPlaceholderNames()
+    public StringBuilder render(StringBuilder out, String... values) {
+        checkValues(values);
+        for (int i = 0; i < slots.length; i++) {
+            out.append(literals[i]).append(values[slots[i]]);
+        }
+        return out.append(literals[slots.length]);
+    }
+
+    public StringBuilder render(StringBuilder out, Map<String, String> values) {
+        String[] ordered = new String[placeholderNames.length];
+        for (int i = 0; i < ordered.length; i++) {
+            ordered[i] = values.getOrDefault(placeholderNames[i], "");
+        }
+        return render(out, ordered);
+    }
+
+    // Writes UTF-8 straight into the caller's buffer; literals were encoded at compile time
+    public ByteBuffer render(ByteBuffer out, String... values) {
+        checkValues(values);
+        for (int i = 0; i < slots.length; i++) {
+            out.put(literalUtf8[i]);
+            putUtf8(out, values[slots[i]]);
+        }
+        return out.put(literalUtf8[slots.length]);
+    }
+
+    public String[] getPlaceholderNames() {
+        return placeholderNames.clone();
+    }
+
+    private void checkValues(String[] values) {
+        if (values.length != placeholderNames.length) {
+            throw new IllegalArgumentException(
+                    "Expected " + placeholderNames.length + " values but got " + values.length);
+        }
+    }
+
+    private static void putUtf8(ByteBuffer out, String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | (c >> 6))).put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                out.put((byte) (0xF0 | (codePoint >> 18))).put((byte) (0x80 | ((codePoint >> 12) & 0x3F)))
+                        .put((byte) (0x80 | ((codePoint >> 6) & 0x3F))).put((byte) (0x80 | (codePoint & 0x3F)));
+            } else if (Character.isSurrogate(c)) {
+                out.put((byte) '?'); // unpaired surrogate
+            } else {
+                out.put((byte) (0xE0 | (c >> 12))).put((byte) (0x80 | ((c >> 6) & 0x3F)))
+                        .put((byte) (0x80 | (c & 0x3F)));
+            }
+        }
+    }
+}
+
+// Receives each rendered message; the text is only valid during the call
+interface RenderSink {
+    void accept(int row, CharSequence text);
+}
+
+// Keeps template sources by id and an LRU cache of their compiled form
+class NotificationTemplateEngine {
+    private final Map<String, String> sources = new ConcurrentHashMap<>();
+    private final Map<String, CompiledTemplate> compiled;
+    private final ThreadLocal<StringBuilder> scratch = ThreadLocal.withInitial(() -> new StringBuilder(256));
+
+    public NotificationTemplateEngine(int cacheCapacity) {
+        this.compiled = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CompiledTemplate> eldest) {
+                return size() > cacheCapacity;
+            }
+        };
+    }
+
+    public void register(String templateId, String source) {
+        CompiledTemplate.compile(source); // fail fast on a malformed template
+        sources.put(templateId, source);
+        synchronized (compiled) {
+            compiled.remove(templateId);
+        }
+    }
+
+    public String getSource(String templateId) {
+        return sources.get(templateId);
+    }
+
+    public CompiledTemplate get(String templateId) {
+        synchronized (compiled) {
+            CompiledTemplate template = compiled.get(templateId);
+            if (template == null) {
+                String source = sources.get(templateId);
+                if (source == null) {
+                    throw new IllegalArgumentException("Unknown template " + templateId);
+                }
+                template = CompiledTemplate.compile(source);
+                compiled.put(templateId, template);
+            }
+            return template;
+        }
+    }
+
+    public NotificationMessage render(NotificationChannel channel, String recipient, String templateId,
+            String... values) {
+        StringBuilder out = scratch.get();
+        out.setLength(0);
+        return new NotificationMessage(channel, recipient, get(templateId).render(out, values).toString());
+    }
+
+    // Renders one message per row, reusing a single buffer for the whole list
+    public void renderAll(String templateId, String[][] rows, RenderSink sink) {
+        CompiledTemplate template = get(templateId);
+        StringBuilder out = scratch.get();
+        for (int row = 0; row < rows.length; row++) {
+            out.setLength(0);
+            sink.accept(row, template.render(out, rows[row]));
+        }
+    }
+}
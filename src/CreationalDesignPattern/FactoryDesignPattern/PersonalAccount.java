@@ -0,0 +1,9 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+// Concrete Products
+class PersonalAccount implements BankAccount {
+    @Override
+    public void registerAccount() {
+        System.out.println("Creating a personal account");
+    }
+}
@@ -0,0 +1,8 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+class PushNotification implements Notification {
+    @Override
+    public void notifyUser() {
+        System.out.println("Sending a Push Notification");
+    }
+}
@@ -0,0 +1,36 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+// Local stand-in for an email/SMS/push gateway: sleeps for the round trip plus a per-message cost
+class SimulatedNotificationProvider implements NotificationProvider {
+    private final long callMicros;
+    private final long perMessageMicros;
+    private final LongAdder delivered = new LongAdder();
+
+    public SimulatedNotificationProvider(long callMicros, long perMessageMicros) {
+        this.callMicros = callMicros;
+        this.perMessageMicros = perMessageMicros;
+    }
+
+    @Override
+    public void sendBatch(List<NotificationMessage> batch) {
+        try {
+            TimeUnit.MICROSECONDS.sleep(costMicros(batch.size()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while sending", e);
+        }
+        delivered.add(batch.size());
+    }
+
+    public long costMicros(int messages) {
+        return callMicros + perMessageMicros * messages;
+    }
+
+    public long getDeliveredCount() {
+        return delivered.sum();
+    }
+}
@@ -0,0 +1,6 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+// Outcome of handing a message to the dispatcher
+enum SubmitResult {
+    QUEUED, TIMED_OUT, DUPLICATE, RECIPIENT_LIMITED, CHANNEL_LIMITED
+}
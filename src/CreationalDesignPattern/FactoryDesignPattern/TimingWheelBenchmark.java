@@ -0,0 +1,72 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+import java.util.Random;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+// Schedules and then cancels 1M pending timers (delays up to 10 minutes) on the
+// timing wheel and on a ScheduledThreadPoolExecutor, reporting time and heap used.
+public class TimingWheelBenchmark {
+    private static final int TIMERS = 1_000_000;
+    private static final long MAX_DELAY_MILLIS = TimeUnit.MINUTES.toMillis(10);
+
+    public static void main(String[] args) {
+        long[] delays = new long[TIMERS];
+        Random random = new Random(1);
+        for (int i = 0; i < TIMERS; i++) {
+            delays[i] = 1 + (long) (random.nextDouble() * MAX_DELAY_MILLIS);
+        }
+        Runnable noop = () -> {
+        };
+
+        for (int round = 0; round < 3; round++) {
+            System.out.println("Round " + (round + 1));
+
+            HierarchicalTimingWheel wheel = new HierarchicalTimingWheel(1, TimeUnit.MILLISECONDS, Runnable::run);
+            WheelTimeout[] timeouts = new WheelTimeout[TIMERS];
+            long heapBefore = usedHeap();
+            long start = System.nanoTime();
+            for (int i = 0; i < TIMERS; i++) {
+                timeouts[i] = wheel.schedule(noop, delays[i], TimeUnit.MILLISECONDS);
+            }
+            long scheduleNanos = System.nanoTime() - start;
+            long heap = usedHeap() - heapBefore;
+            start = System.nanoTime();
+            for (WheelTimeout timeout : timeouts) {
+                timeout.cancel();
+            }
+            long cancelNanos = System.nanoTime() - start;
+            report("timing wheel", scheduleNanos, cancelNanos, heap);
+
+            ScheduledThreadPoolExecutor executor = new ScheduledThreadPoolExecutor(1);
+            executor.setRemoveOnCancelPolicy(true);
+            ScheduledFuture<?>[] futures = new ScheduledFuture<?>[TIMERS];
+            heapBefore = usedHeap();
+            start = System.nanoTime();
+            for (int i = 0; i < TIMERS; i++) {
+                futures[i] = executor.schedule(noop, delays[i], TimeUnit.MILLISECONDS);
+            }
+            scheduleNanos = System.nanoTime() - start;
+            heap = usedHeap() - heapBefore;
+            start = System.nanoTime();
+            for (ScheduledFuture<?> future : futures) {
+                future.cancel(false);
+            }
+            cancelNanos = System.nanoTime() - start;
+            executor.shutdownNow();
+            report("ScheduledThreadPoolExecutor", scheduleNanos, cancelNanos, heap);
+        }
+    }
+
+    private static void report(String name, long scheduleNanos, long cancelNanos, long heapBytes) {
+        System.out.printf("  %-28s schedule %5.0f ns/timer, cancel %5.0f ns/timer, ~%d MB for 1M pending%n", name,
+                scheduleNanos / (double) TIMERS, cancelNanos / (double) TIMERS, heapBytes / (1024 * 1024));
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
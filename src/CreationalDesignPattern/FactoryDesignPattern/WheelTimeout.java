@@ -0,0 +1,27 @@
+package CreationalDesignPattern.FactoryDesignPattern;
+
+// Timer handle returned by the wheel; also the node of its bucket's linked list
+class WheelTimeout {
+    final long deadlineTick;
+    final Runnable task;
+    WheelTimeout previous;
+    WheelTimeout next;
+    WheelTimeout[] bucketHead; // one-element holder of the list head, null when not scheduled
+    boolean cancelled;
+    private final HierarchicalTimingWheel wheel;
+
+    WheelTimeout(HierarchicalTimingWheel wheel, long deadlineTick, Runnable task) {
+        this.wheel = wheel;
+        this.deadlineTick = deadlineTick;
+        this.task = task;
+    }
+
+    // O(1): unlinks the node from its bucket
+    public boolean cancel() {
+        return wheel.cancel(this);
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+}
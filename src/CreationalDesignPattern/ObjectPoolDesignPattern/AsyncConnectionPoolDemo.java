@@ -0,0 +1,327 @@
+package CreationalDesignPattern.ObjectPoolDesignPattern;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class AsyncConnectionPoolDemo {
+    private static final int TASKS = 100_000;
+    private static final int POOL_SIZE = 16;
+    // Far below what either path reaches on one core; catches a pool that serialises on timeouts
+    private static final double MIN_OPS_PER_SECOND = 20_000;
+
+    public static void main(String[] args) throws Exception {
+        AsyncConnectionPool pool = new AsyncConnectionPool(POOL_SIZE);
+
+        // Warm the pool so connection creation does not show up in the numbers
+        DatabaseConnection[] warm = new DatabaseConnection[POOL_SIZE];
+        for (int i = 0; i < POOL_SIZE; i++) {
+            warm[i] = pool.getConnection(1, TimeUnit.SECONDS);
+        }
+        for (DatabaseConnection conn : warm) {
+            pool.releaseConnection(conn);
+        }
+
+        checkFifoAndDeadlines(pool, warm);
+        runAsync(pool);
+        runBlocking(pool);
+        pool.close();
+    }
+
+    // With every connection taken, queued requests must be served in request order,
+    // and a timed-out or cancelled request must leave the queue straight away
+    private static void checkFifoAndDeadlines(AsyncConnectionPool pool, DatabaseConnection[] held) {
+        for (int i = 0; i < POOL_SIZE; i++) {
+            held[i] = pool.getConnection(1, TimeUnit.SECONDS);
+        }
+        CompletableFuture<DatabaseConnection> expiring = pool.acquireAsync(50, TimeUnit.MILLISECONDS);
+        CompletableFuture<DatabaseConnection> cancelled = pool.acquireAsync();
+        List<Integer> grants = new ArrayList<>();
+        List<CompletableFuture<DatabaseConnection>> queued = new ArrayList<>();
+        for (int i = 0; i < POOL_SIZE; i++) {
+            int request = i;
+            queued.add(pool.acquireAsync().thenApply(conn -> {
+                grants.add(request);
+                return conn;
+            }));
+        }
+        cancelled.cancel(false);
+        Throwable deadlineError = expiring.handle((conn, error) -> error).join();
+        System.out.println("Deadline request finished with: " + deadlineError);
+        if (!(deadlineError instanceof TimeoutException) || pool.getWaiterCount() != POOL_SIZE) {
+            throw new IllegalStateException("Expected the timed-out and cancelled requests to leave the queue, "
+                    + pool.getWaiterCount() + " waiters left");
+        }
+
+        // Each release completes the oldest waiter on this thread, so grants are recorded in hand-off order
+        for (DatabaseConnection conn : held) {
+            pool.releaseConnection(conn);
+        }
+        for (int i = 0; i < POOL_SIZE; i++) {
+            if (grants.get(i) != i) {
+                throw new IllegalStateException("Waiters were not served in FIFO order: " + grants);
+            }
+        }
+        System.out.println("FIFO hand-off order: " + grants);
+        for (CompletableFuture<DatabaseConnection> granted : queued) {
+            pool.releaseConnection(granted.join());
+        }
+    }
+
+    // Issues every request up front and hands each connection back from a small handler pool
+    private static void runAsync(AsyncConnectionPool pool) throws InterruptedException {
+        ExecutorService handlers = Executors.newFixedThreadPool(4);
+        CountDownLatch done = new CountDownLatch(TASKS);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < TASKS; i++) {
+            pool.acquireAsync().thenAcceptAsync(conn -> {
+                pool.releaseConnection(conn);
+                done.countDown();
+            }, handlers);
+        }
+        done.await();
+        long elapsed = System.nanoTime() - start;
+        handlers.shutdown();
+
+        double opsPerSecond = TASKS / (elapsed / 1e9);
+        System.out.printf("acquireAsync: %d requests in %d ms (%.0f ops/s)%n", TASKS, elapsed / 1_000_000,
+                opsPerSecond);
+        checkThroughput("acquireAsync", opsPerSecond);
+    }
+
+    // One blocking task per request, on virtual threads when the JDK provides them
+    private static void runBlocking(AsyncConnectionPool pool) throws Exception {
+        ExecutorService executor = newPerTaskExecutor();
+        long[] waitNanos = new long[TASKS];
+        CountDownLatch done = new CountDownLatch(TASKS);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < TASKS; i++) {
+            int task = i;
+            executor.execute(() -> {
+                long requested = System.nanoTime();
+                DatabaseConnection conn = pool.getConnection(30, TimeUnit.SECONDS);
+                waitNanos[task] = System.nanoTime() - requested;
+                pool.releaseConnection(conn);
+                done.countDown();
+            });
+        }
+        done.await();
+        long elapsed = System.nanoTime() - start;
+        executor.shutdown();
+
+        Arrays.sort(waitNanos);
+        double opsPerSecond = TASKS / (elapsed / 1e9);
+        System.out.printf("getConnection: %d tasks in %d ms (%.0f ops/s), wait p50=%d us p99=%d us max=%d us%n",
+                TASKS, elapsed / 1_000_000, opsPerSecond,
+                waitNanos[TASKS / 2] / 1_000, waitNanos[TASKS * 99 / 100] / 1_000, waitNanos[TASKS - 1] / 1_000);
+        checkThroughput("getConnection", opsPerSecond);
+    }
+
+    private static void checkThroughput(String what, double opsPerSecond) {
+        if (opsPerSecond < MIN_OPS_PER_SECOND) {
+            throw new IllegalStateException(String.format("%s managed only %.0f ops/s, expected at least %.0f",
+                    what, opsPerSecond, MIN_OPS_PER_SECOND));
+        }
+    }
+
+    private static ExecutorService newPerTaskExecutor() {
+        try {
+            return (ExecutorService) Executors.class.getMethod("newVirtualThreadPerTaskExecutor").invoke(null);
+        } catch (ReflectiveOperationException e) {
+            System.out.println("Virtual threads not available on this JDK, using 256 platform threads");
+            return Executors.newFixedThreadPool(256);
+        }
+    }
+}
+
+// Pool whose waiters queue up in strict FIFO order. Async callers get a
+// CompletableFuture; blocking callers wait on their own Condition, so no thread
+// ever blocks on a monitor (which would pin a virtual thread's carrier).
+// Released connections are handed directly to the oldest waiter.
+class AsyncConnectionPool {
+    private final int maxConnections;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final ArrayDeque<DatabaseConnection> idleConnections = new ArrayDeque<>();
+    private final ArrayDeque<Waiter> waiters = new ArrayDeque<>();
+    private int createdConnections;
+    private final ScheduledExecutorService deadlineTimer;
+
+    public AsyncConnectionPool(int maxConnections) {
+        if (maxConnections <= 0) {
+            throw new IllegalArgumentException("maxConnections must be positive");
+        }
+        this.maxConnections = maxConnections;
+        this.deadlineTimer = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "connection-pool-deadlines");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public CompletableFuture<DatabaseConnection> acquireAsync() {
+        return acquireAsync(0, TimeUnit.NANOSECONDS);
+    }
+
+    // A non-positive timeout means wait without a deadline. A cancelled or
+    // timed-out request leaves the queue as soon as its future completes.
+    public CompletableFuture<DatabaseConnection> acquireAsync(long timeout, TimeUnit unit) {
+        Waiter waiter = null;
+        DatabaseConnection conn = null;
+        boolean create = false;
+
+        lock.lock();
+        try {
+            if (!idleConnections.isEmpty()) {
+                conn = idleConnections.pop();
+            } else if (createdConnections < maxConnections) {
+                createdConnections++;
+                create = true;
+            } else {
+                waiter = new Waiter(new CompletableFuture<>());
+                waiters.addLast(waiter);
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        if (waiter == null) {
+            return CompletableFuture.completedFuture(create ? new DatabaseConnection() : conn);
+        }
+        CompletableFuture<DatabaseConnection> future = waiter.future;
+        Waiter queued = waiter;
+        future.whenComplete((c, error) -> {
+            if (error != null) {
+                removeWaiter(queued);
+            }
+        });
+        if (timeout > 0) {
+            // Dequeue before failing the future, so callers that see the timeout also see
+            // the shorter queue; if a release already took the waiter, the release wins
+            ScheduledFuture<?> deadline = deadlineTimer.schedule(() -> {
+                if (removeWaiter(queued)) {
+                    future.completeExceptionally(new TimeoutException("Timed out waiting for a connection"));
+                }
+            }, timeout, unit);
+            future.whenComplete((c, error) -> deadline.cancel(false));
+        }
+        return future;
+    }
+
+    public DatabaseConnection getConnection(long timeout, TimeUnit unit) {
+        boolean create = false;
+        lock.lock();
+        try {
+            if (!idleConnections.isEmpty()) {
+                return idleConnections.pop();
+            }
+            if (createdConnections < maxConnections) {
+                createdConnections++;
+                create = true;
+            } else {
+                Waiter waiter = new Waiter(lock.newCondition());
+                waiters.addLast(waiter);
+                long remaining = unit.toNanos(timeout);
+                try {
+                    while (waiter.handedOff == null) {
+                        if (remaining <= 0) {
+                            waiters.remove(waiter);
+                            throw new RuntimeException("Timed out waiting for a connection");
+                        }
+                        remaining = waiter.condition.awaitNanos(remaining);
+                    }
+                } catch (InterruptedException e) {
+                    waiters.remove(waiter);
+                    if (waiter.handedOff != null) {
+                        // Lost the race with a release: pass the connection on
+                        releaseConnection(waiter.handedOff);
+                    }
+                    Thread.currentThread().interrupt();
+                    throw new RuntimeException("Interrupted while waiting for a connection", e);
+                }
+                return waiter.handedOff;
+            }
+        } finally {
+            lock.unlock();
+        }
+        return new DatabaseConnection();
+    }
+
+    public void releaseConnection(DatabaseConnection connection) {
+        while (true) {
+            Waiter waiter;
+            lock.lock();
+            try {
+                waiter = waiters.pollFirst();
+                if (waiter == null) {
+                    idleConnections.push(connection);
+                    return;
+                }
+                if (waiter.condition != null) {
+                    waiter.handedOff = connection;
+                    waiter.condition.signal();
+                    return;
+                }
+            } finally {
+                lock.unlock();
+            }
+            // Complete outside the lock so callbacks never run while holding it; a future
+            // cancelled or timed out before it could leave the queue refuses the connection
+            // and we try the next waiter
+            if (waiter.future.complete(connection)) {
+                return;
+            }
+        }
+    }
+
+    private boolean removeWaiter(Waiter waiter) {
+        lock.lock();
+        try {
+            return waiters.remove(waiter);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getWaiterCount() {
+        lock.lock();
+        try {
+            return waiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void close() {
+        deadlineTimer.shutdownNow();
+    }
+
+    // Either an async request (future) or a parked blocking caller (condition)
+    private static class Waiter {
+        final CompletableFuture<DatabaseConnection> future;
+        final Condition condition;
+        DatabaseConnection handedOff;
+
+        Waiter(CompletableFuture<DatabaseConnection> future) {
+            this.future = future;
+            this.condition = null;
+        }
+
+        Waiter(Condition condition) {
+            this.future = null;
+            this.condition = condition;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package CreationalDesignPattern.ObjectPoolDesignPattern;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Singleton Connection Pool class
+class ConnectionPool {
+    private static ConnectionPool instance;
+
+    private final List<DatabaseConnection> initialPool;
+    private List<DatabaseConnection> availableConnections;
+    private List<DatabaseConnection> usedConnections = new ArrayList<>();
+    private static final int MAX_CONNECTIONS = 3;
+
+    // Private constructor to prevent external instantiation
+    private ConnectionPool(List<DatabaseConnection> pool) {
+        this.initialPool = pool;
+        this.availableConnections = pool;
+    }
+
+    // Thread-safe way to obtain singleton instance
+    public static synchronized ConnectionPool getInstance(List<DatabaseConnection> pool) {
+        if (instance == null) {
+            instance = new ConnectionPool(pool);
+        } else if (pool != null && pool != instance.initialPool) {
+            throw new IllegalStateException("ConnectionPool is already initialized with a different connection list");
+        }
+        return instance;
+    }
+
+    public synchronized DatabaseConnection getConnection() {
+        if (availableConnections.isEmpty()) {
+            if (usedConnections.size() < MAX_CONNECTIONS) {
+                DatabaseConnection newConn = new DatabaseConnection();
+                usedConnections.add(newConn);
+                return newConn;
+            }
+            throw new RuntimeException("Max connections reached");
+        }
+        DatabaseConnection conn = availableConnections.remove(availableConnections.size() - 1);
+        usedConnections.add(conn);
+        return conn;
+    }
+
+    public synchronized void releaseConnection(DatabaseConnection connection) {
+        usedConnections.remove(connection);
+        availableConnections.add(connection);
+    }
+
+    public synchronized int getAvailableConnectionsCount() {
+        return availableConnections.size();
+    }
+}
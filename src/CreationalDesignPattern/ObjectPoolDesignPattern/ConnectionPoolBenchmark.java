@@ -0,0 +1,76 @@
+package CreationalDesignPattern.ObjectPoolDesignPattern;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class ConnectionPoolBenchmark {
+    private static final int[] THREAD_COUNTS = { 1, 2, 4, 8, 16, 32, 64 };
+    private static final int OPERATIONS_PER_RUN = 400_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        // Both pools hold at most 3 connections, like the singleton ConnectionPool
+        ConnectionPool synchronizedPool = ConnectionPool.getInstance(new ArrayList<>());
+        LockFreeConnectionPool lockFreePool = new LockFreeConnectionPool(3);
+
+        Runnable synchronizedBorrow = () -> {
+            DatabaseConnection conn;
+            while (true) {
+                try {
+                    conn = synchronizedPool.getConnection();
+                    break;
+                } catch (RuntimeException e) {
+                    // Pool exhausted: the old pool gives callers no way to wait, so they retry
+                    Thread.yield();
+                }
+            }
+            synchronizedPool.releaseConnection(conn);
+        };
+        Runnable lockFreeBorrow = () -> {
+            DatabaseConnection conn = lockFreePool.getConnection(1, TimeUnit.SECONDS);
+            lockFreePool.releaseConnection(conn);
+        };
+
+        // Warm-up pass so both pools are JIT-compiled before they are measured
+        for (int threads : THREAD_COUNTS) {
+            run(threads, synchronizedBorrow);
+            run(threads, lockFreeBorrow);
+        }
+
+        System.out.printf("%-8s %22s %22s%n", "threads", "synchronized (ops/ms)", "lock-free (ops/ms)");
+        for (int threads : THREAD_COUNTS) {
+            double syncThroughput = run(threads, synchronizedBorrow);
+            double lockFreeThroughput = run(threads, lockFreeBorrow);
+            System.out.printf("%-8d %22.1f %22.1f%n", threads, syncThroughput, lockFreeThroughput);
+        }
+    }
+
+    // Runs OPERATIONS_PER_RUN borrow/release pairs split across the given threads
+    private static double run(int threads, Runnable borrowAndRelease) throws InterruptedException {
+        int perThread = OPERATIONS_PER_RUN / threads;
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int t = 0; t < threads; t++) {
+            Thread worker = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        borrowAndRelease.run();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+            worker.start();
+        }
+
+        long begin = System.nanoTime();
+        start.countDown();
+        done.await();
+        long elapsedNanos = System.nanoTime() - begin;
+        return (perThread * (double) threads) / (elapsedNanos / 1_000_000.0);
+    }
+}
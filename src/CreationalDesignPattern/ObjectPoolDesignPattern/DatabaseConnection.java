@@ -0,0 +1,34 @@
+package CreationalDesignPattern.ObjectPoolDesignPattern;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Simulated DatabaseConnection class
+class DatabaseConnection {
+    // Connections may be created from several threads at once (e.g. pool warm-up)
+    private static final AtomicInteger counter = new AtomicInteger();
+    private final int id;
+    private volatile boolean closed;
+
+    public DatabaseConnection() {
+        this.id = counter.incrementAndGet();
+        System.out.println("Creating new connection with id: " + id);
+    }
+
+    public void connect() {
+        System.out.println("Connection " + id + " connected.");
+    }
+
+    public void disconnect() {
+        closed = true;
+        System.out.println("Connection " + id + " disconnected.");
+    }
+
+    // A disconnected connection must not be handed out again
+    public boolean isValid() {
+        return !closed;
+    }
+
+    public int getId() {
+        return id;
+    }
+}
@@ -0,0 +1,242 @@
+package CreationalDesignPattern.ObjectPoolDesignPattern;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class DirectBufferPoolDemo {
+    private static final int REQUESTS = 200_000;
+
+    public static void main(String[] args) {
+        // Size classes 512 B .. 64 KB, two 1 MB arenas per class (16 MB of native memory)
+        DirectBufferSlabPool pool = new DirectBufferSlabPool(512, 64 * 1024, 1024 * 1024, 2);
+        System.out.println("After start-up: " + pool);
+
+        BufferSlice header = pool.borrow(300);
+        BufferSlice body = pool.borrow(20_000);
+        header.buffer().putInt(42);
+        System.out.println("Borrowed " + header + " and " + body);
+        System.out.println("While borrowed: " + pool);
+
+        header.release();
+        body.release();
+        expectRejected(body, "double release");
+        // The freed slot goes to the next borrower; the old handle must not free it from under them
+        BufferSlice reused = pool.borrow(20_000);
+        expectRejected(body, "release through a stale handle");
+        reused.release();
+        System.out.println("After release: " + pool);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            BufferSlice slice = pool.borrow(4096);
+            slice.buffer().putLong(0, i);
+            slice.release();
+        }
+        long pooledNanos = System.nanoTime() - start;
+
+        start = System.nanoTime();
+        for (int i = 0; i < REQUESTS; i++) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(4096);
+            buffer.putLong(0, i);
+        }
+        long allocateNanos = System.nanoTime() - start;
+
+        System.out.printf("4 KB buffers: pooled %d ns/request, allocateDirect %d ns/request%n",
+                pooledNanos / REQUESTS, allocateNanos / REQUESTS);
+    }
+
+    private static void expectRejected(BufferSlice slice, String what) {
+        boolean rejected = false;
+        try {
+            slice.release();
+        } catch (IllegalStateException e) {
+            System.out.println("Rejected " + what + ": " + e.getMessage());
+            rejected = true;
+        }
+        if (!rejected) {
+            throw new IllegalStateException("Expected the " + what + " to be rejected");
+        }
+    }
+}
+
+// Slab pool for direct ByteBuffers. Each power-of-two size class owns a few
+// large pre-allocated arenas that are carved into equal slices up front; free
+// slices sit on a lock-free stack, so borrow and release are O(1) and never
+// touch the native allocator after start-up. Each borrow hands out its own
+// small BufferSlice stamped with the slot's generation, so a handle kept
+// after release() cannot free or read a slot that was borrowed again.
+class DirectBufferSlabPool {
+    private final int minSliceShift;
+    private final SizeClass[] sizeClasses;
+    private final long reservedBytes;
+    private final AtomicLong inUseBytes = new AtomicLong();
+
+    public DirectBufferSlabPool(int minSliceSize, int maxSliceSize, int arenaSize, int arenasPerClass) {
+        if (Integer.bitCount(minSliceSize) != 1 || Integer.bitCount(maxSliceSize) != 1
+                || minSliceSize > maxSliceSize || maxSliceSize > arenaSize || arenasPerClass <= 0) {
+            throw new IllegalArgumentException(
+                    "Slice sizes must be powers of two with min <= max <= arenaSize, and arenasPerClass positive");
+        }
+        this.minSliceShift = Integer.numberOfTrailingZeros(minSliceSize);
+        int classCount = Integer.numberOfTrailingZeros(maxSliceSize) - minSliceShift + 1;
+        this.sizeClasses = new SizeClass[classCount];
+        for (int c = 0; c < classCount; c++) {
+            sizeClasses[c] = new SizeClass(this, c, minSliceSize << c, arenaSize, arenasPerClass);
+        }
+        this.reservedBytes = (long) classCount * arenasPerClass * arenaSize;
+    }
+
+    // Returns a cleared slice of at least the requested size. Falls back to a
+    // larger class when the best fit is exhausted.
+    public BufferSlice borrow(int size) {
+        if (size <= 0 || size > sizeClasses[sizeClasses.length - 1].sliceSize) {
+            throw new IllegalArgumentException("Unsupported buffer size " + size);
+        }
+        int sizeClass = classFor(size);
+        for (int c = sizeClass; c < sizeClasses.length; c++) {
+            Slot slot = sizeClasses[c].pop();
+            if (slot != null) {
+                long generation = slot.generation.incrementAndGet(); // odd while borrowed
+                slot.buffer.clear();
+                inUseBytes.addAndGet(slot.buffer.capacity());
+                return new BufferSlice(slot, generation);
+            }
+        }
+        throw new IllegalStateException("Slab pool exhausted for buffers of " + size + " bytes");
+    }
+
+    void release(BufferSlice slice) {
+        Slot slot = slice.slot;
+        if (slot.sizeClass.pool != this) {
+            throw new IllegalArgumentException("Slice does not belong to this pool");
+        }
+        if (!slot.generation.compareAndSet(slice.generation, slice.generation + 1)) {
+            throw new IllegalStateException(slice + " was already released");
+        }
+        inUseBytes.addAndGet(-slot.buffer.capacity());
+        slot.sizeClass.push(slot);
+    }
+
+    public long getReservedBytes() {
+        return reservedBytes;
+    }
+
+    public long getInUseBytes() {
+        return inUseBytes.get();
+    }
+
+    @Override
+    public String toString() {
+        return "DirectBufferSlabPool [nativeReserved=" + reservedBytes / 1024 + " KB, inUse=" + inUseBytes.get()
+                + " bytes]";
+    }
+
+    private int classFor(int size) {
+        int shift = 32 - Integer.numberOfLeadingZeros(size - 1); // ceil(log2(size))
+        return Math.max(0, shift - minSliceShift);
+    }
+
+    // Fixed set of slices for one size, with a Treiber stack of free slice indices.
+    // The head packs a version tag with the index so a stale pop cannot succeed (ABA).
+    static class SizeClass {
+        private static final long EMPTY = 0;
+
+        final DirectBufferSlabPool pool;
+        final int index;
+        final int sliceSize;
+        private final Slot[] slices;
+        private final int[] next;
+        private final AtomicLong head = new AtomicLong(EMPTY);
+
+        SizeClass(DirectBufferSlabPool pool, int index, int sliceSize, int arenaSize, int arenas) {
+            this.pool = pool;
+            this.index = index;
+            this.sliceSize = sliceSize;
+            int slicesPerArena = arenaSize / sliceSize;
+            this.slices = new Slot[slicesPerArena * arenas];
+            this.next = new int[slices.length];
+            for (int a = 0; a < arenas; a++) {
+                ByteBuffer arena = ByteBuffer.allocateDirect(arenaSize);
+                for (int s = 0; s < slicesPerArena; s++) {
+                    int slot = a * slicesPerArena + s;
+                    slices[slot] = new Slot(this, slot, arena.slice(s * sliceSize, sliceSize));
+                    push(slices[slot]);
+                }
+            }
+        }
+
+        Slot pop() {
+            while (true) {
+                long current = head.get();
+                int top = (int) current; // slot + 1, or 0 when empty
+                if (top == 0) {
+                    return null;
+                }
+                long updated = nextTag(current) | next[top - 1];
+                if (head.compareAndSet(current, updated)) {
+                    return slices[top - 1];
+                }
+            }
+        }
+
+        void push(Slot slot) {
+            while (true) {
+                long current = head.get();
+                next[slot.index] = (int) current;
+                long updated = nextTag(current) | (slot.index + 1);
+                if (head.compareAndSet(current, updated)) {
+                    return;
+                }
+            }
+        }
+
+        private static long nextTag(long current) {
+            return ((current >>> 32) + 1) << 32;
+        }
+    }
+
+    // One region of an arena. The generation goes up on every borrow and every
+    // release, so it is odd exactly while the slot is borrowed.
+    static class Slot {
+        final SizeClass sizeClass;
+        final int index;
+        final ByteBuffer buffer;
+        final AtomicLong generation = new AtomicLong();
+
+        Slot(SizeClass sizeClass, int index, ByteBuffer buffer) {
+            this.sizeClass = sizeClass;
+            this.index = index;
+            this.buffer = buffer;
+        }
+    }
+}
+
+// Handle for one borrow of an arena region. The ByteBuffer is a fixed view that
+// is reused across borrows, so callers must not keep it after release().
+class BufferSlice {
+    final DirectBufferSlabPool.Slot slot;
+    final long generation;
+
+    BufferSlice(DirectBufferSlabPool.Slot slot, long generation) {
+        this.slot = slot;
+        this.generation = generation;
+    }
+
+    // Fails once this borrow has been released
+    public ByteBuffer buffer() {
+        if (slot.generation.get() != generation) {
+            throw new IllegalStateException(this + " was already released");
+        }
+        return slot.buffer;
+    }
+
+    public void release() {
+        slot.sizeClass.pool.release(this);
+    }
+
+    @Override
+    public String toString() {
+        return "BufferSlice [size=" + slot.buffer.capacity() + ", class=" + slot.sizeClass.index + ", slot="
+                + slot.index + "]";
+    }
+}
@@ -0,0 +1,81 @@
+package CreationalDesignPattern.ObjectPoolDesignPattern;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Bounded pool without a global monitor. A fair semaphore hands out one permit
+// per connection and parks waiters in FIFO order; idle connections live in a
+// lock-free queue, so both borrow and release are O(1).
+class LockFreeConnectionPool {
+    private final int maxConnections;
+    private final Semaphore permits;
+    private final ConcurrentLinkedQueue<DatabaseConnection> idleConnections = new ConcurrentLinkedQueue<>();
+    // Connections currently handed out, so a second release of one is rejected
+    private final Set<DatabaseConnection> borrowedConnections = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger createdConnections = new AtomicInteger();
+
+    public LockFreeConnectionPool(int maxConnections) {
+        if (maxConnections <= 0) {
+            throw new IllegalArgumentException("maxConnections must be positive");
+        }
+        this.maxConnections = maxConnections;
+        this.permits = new Semaphore(maxConnections, true);
+    }
+
+    // Waits up to the timeout for a free connection instead of failing immediately
+    public DatabaseConnection getConnection(long timeout, TimeUnit unit) {
+        try {
+            if (!permits.tryAcquire(timeout, unit)) {
+                throw new RuntimeException("Timed out waiting for a connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a connection", e);
+        }
+
+        DatabaseConnection conn = idleConnections.poll();
+        if (conn != null) {
+            borrowedConnections.add(conn);
+            return conn;
+        }
+        // Holding a permit guarantees the pool is below maxConnections in use,
+        // so either an idle connection exists or we are allowed to create one
+        while (true) {
+            int created = createdConnections.get();
+            if (created < maxConnections) {
+                if (createdConnections.compareAndSet(created, created + 1)) {
+                    conn = new DatabaseConnection();
+                    borrowedConnections.add(conn);
+                    return conn;
+                }
+            } else {
+                conn = idleConnections.poll();
+                if (conn != null) {
+                    borrowedConnections.add(conn);
+                    return conn;
+                }
+                Thread.onSpinWait();
+            }
+        }
+    }
+
+    public void releaseConnection(DatabaseConnection connection) {
+        if (!borrowedConnections.remove(connection)) {
+            throw new IllegalArgumentException("Connection was not borrowed from this pool or is already released");
+        }
+        idleConnections.offer(connection);
+        permits.release();
+    }
+
+    public int getAvailableConnectionsCount() {
+        return permits.availablePermits();
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+}
@@ -0,0 +1,344 @@
+package CreationalDesignPattern.ObjectPoolDesignPattern;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+
+// Connection pool with min/max sizing and a background maintainer thread that
+// validates and evicts idle connections and keeps minIdle connections ready
+class ManagedConnectionPool {
+    private final PoolConfig config;
+    private final Semaphore permits;
+    // Most recently returned connections sit at the head, the oldest at the tail
+    private final ConcurrentLinkedDeque<PooledEntry> idleConnections = new ConcurrentLinkedDeque<>();
+    private final Map<DatabaseConnection, PooledEntry> entries = new ConcurrentHashMap<>();
+    private final AtomicInteger totalConnections = new AtomicInteger();
+    private final AtomicBoolean refillScheduled = new AtomicBoolean();
+    private final PoolMetrics metrics = new PoolMetrics();
+    private final CountDownLatch ready = new CountDownLatch(1);
+    private volatile boolean warm;
+    private volatile long warmUpMillis;
+    private volatile boolean closed;
+    private final ScheduledExecutorService maintainer;
+
+    public ManagedConnectionPool(PoolConfig config) {
+        this.config = config;
+        this.permits = new Semaphore(config.getMaxTotal(), true);
+        this.maintainer = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "connection-pool-maintainer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long firstMaintenance = 0;
+        if (config.getWarmUpConnections() > 0) {
+            // Let the warm-up fill the pool in parallel before the maintainer starts topping it up
+            firstMaintenance = config.getMaintenanceIntervalMillis();
+            Thread warmer = new Thread(this::warmUp, "connection-pool-warm-up");
+            warmer.setDaemon(true);
+            warmer.start();
+        } else {
+            markReady();
+        }
+        maintainer.scheduleWithFixedDelay(this::maintain, firstMaintenance, config.getMaintenanceIntervalMillis(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    // True once warm-up has finished and the pool admits traffic
+    public boolean isReady() {
+        return warm;
+    }
+
+    public boolean awaitReady(long timeout, TimeUnit unit) throws InterruptedException {
+        return ready.await(timeout, unit);
+    }
+
+    public long getWarmUpMillis() {
+        return warmUpMillis;
+    }
+
+    public DatabaseConnection getConnection() {
+        if (closed) {
+            throw new IllegalStateException("Connection pool is closed");
+        }
+        long requestedAt = System.nanoTime();
+        // Waiting for warm-up and for a permit share one acquire timeout
+        long deadline = requestedAt + TimeUnit.MILLISECONDS.toNanos(config.getAcquireTimeoutMillis());
+        try {
+            if (!warm && !ready.await(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                metrics.recordTimeout();
+                throw new RuntimeException("Timed out waiting for the pool to warm up");
+            }
+            if (!permits.tryAcquire(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                metrics.recordTimeout();
+                throw new RuntimeException("Timed out waiting for a connection");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for a connection", e);
+        }
+
+        while (true) {
+            PooledEntry entry = idleConnections.pollFirst();
+            if (entry != null) {
+                if (isExpired(entry, System.nanoTime()) || !entry.connection.isValid()) {
+                    destroy(entry);
+                    continue;
+                }
+                if (idleConnections.isEmpty()) {
+                    scheduleRefill();
+                }
+                return markBorrowed(entry, requestedAt);
+            }
+            if (reserveSlot()) {
+                scheduleRefill();
+                PooledEntry created;
+                try {
+                    created = createInReservedSlot();
+                } catch (RuntimeException e) {
+                    permits.release();
+                    throw e;
+                }
+                return markBorrowed(created, requestedAt);
+            }
+            // The maintainer is creating the last allowed connection; it will show up shortly
+            Thread.yield();
+        }
+    }
+
+    public void releaseConnection(DatabaseConnection connection) {
+        PooledEntry entry = entries.get(connection);
+        if (entry == null) {
+            throw new IllegalArgumentException("Connection " + connection.getId() + " does not belong to this pool");
+        }
+        // Only the first release of a borrow may put the connection back
+        long borrowedAt = entry.borrowedAtNanos;
+        if (borrowedAt == 0 || !PooledEntry.BORROWED_AT.compareAndSet(entry, borrowedAt, 0)) {
+            throw new IllegalStateException("Connection " + connection.getId() + " is not borrowed");
+        }
+        long now = System.nanoTime();
+        metrics.recordReturn(now - borrowedAt);
+        entry.borrower = null;
+        entry.borrowSite = null;
+        entry.leakReported = false;
+        if (closed || isExpired(entry, now) || !connection.isValid()) {
+            destroy(entry);
+        } else {
+            entry.lastReturnedNanos = now;
+            idleConnections.offerFirst(entry);
+        }
+        permits.release();
+    }
+
+    public int getIdleCount() {
+        return idleConnections.size();
+    }
+
+    public int getTotalCount() {
+        return totalConnections.get();
+    }
+
+    public PoolMetrics getMetrics() {
+        return metrics;
+    }
+
+    // Rejects further borrows; connections still out are destroyed when they come back
+    public void close() {
+        closed = true;
+        maintainer.shutdownNow();
+        PooledEntry entry;
+        while ((entry = idleConnections.pollFirst()) != null) {
+            destroy(entry);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ManagedConnectionPool [total=" + getTotalCount() + ", idle=" + getIdleCount() + "]";
+    }
+
+    // Runs on the maintainer thread: evict, validate, then pre-create up to minIdle
+    void maintain() {
+        long now = System.nanoTime();
+        long idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(config.getIdleTimeoutMillis());
+        int idleCount = idleConnections.size();
+
+        // Walk from the tail so the longest-idle connections are evicted first
+        Iterator<PooledEntry> oldestFirst = idleConnections.descendingIterator();
+        while (oldestFirst.hasNext()) {
+            PooledEntry entry = oldestFirst.next();
+            boolean broken = isExpired(entry, now) || !entry.connection.isValid();
+            boolean surplus = idleCount > config.getMinIdle() && now - entry.lastReturnedNanos > idleTimeoutNanos;
+            if ((broken || surplus) && idleConnections.removeFirstOccurrence(entry)) {
+                destroy(entry);
+                idleCount--;
+            }
+        }
+
+        refill();
+
+        int total = totalConnections.get();
+        metrics.sampleUtilization(total - idleConnections.size(), config.getMaxTotal());
+        if (config.getLeakDetectionThresholdMillis() > 0) {
+            detectLeaks(now);
+        }
+    }
+
+    // Flags connections held longer than the threshold, once per borrow
+    private void detectLeaks(long now) {
+        long thresholdNanos = TimeUnit.MILLISECONDS.toNanos(config.getLeakDetectionThresholdMillis());
+        for (PooledEntry entry : entries.values()) {
+            long borrowedAt = entry.borrowedAtNanos;
+            Thread borrower = entry.borrower;
+            if (borrowedAt == 0 || borrower == null || entry.leakReported || now - borrowedAt <= thresholdNanos) {
+                continue;
+            }
+            entry.leakReported = true;
+            metrics.recordLeak();
+
+            Throwable site = entry.borrowSite;
+            StackTraceElement[] stack = site != null ? site.getStackTrace() : borrower.getStackTrace();
+            System.out.println("Possible connection leak: connection " + entry.connection.getId() + " held for "
+                    + TimeUnit.NANOSECONDS.toMillis(now - borrowedAt) + " ms by thread " + borrower.getName()
+                    + (site != null ? ", borrowed at:" : ", currently at:"));
+            for (StackTraceElement frame : stack) {
+                System.out.println("\tat " + frame);
+            }
+        }
+    }
+
+    private DatabaseConnection markBorrowed(PooledEntry entry, long requestedAt) {
+        long now = System.nanoTime();
+        entry.borrowedAtNanos = now == 0 ? 1 : now; // 0 means idle
+        entry.borrower = Thread.currentThread();
+        if (config.isCaptureBorrowSite()) {
+            entry.borrowSite = new Throwable();
+        }
+        metrics.recordBorrow(now - requestedAt);
+        return entry.connection;
+    }
+
+    private void warmUp() {
+        long start = System.nanoTime();
+        ExecutorService workers = Executors.newFixedThreadPool(config.getWarmUpParallelism());
+        List<CompletableFuture<Void>> creations = new ArrayList<>();
+        for (int i = 0; i < config.getWarmUpConnections(); i++) {
+            creations.add(CompletableFuture.runAsync(() -> {
+                if (reserveSlot()) {
+                    idleConnections.offerLast(createInReservedSlot());
+                }
+            }, workers));
+        }
+        try {
+            CompletableFuture.allOf(creations.toArray(new CompletableFuture<?>[0])).join();
+        } catch (RuntimeException e) {
+            // Admit traffic anyway; missing connections are created on demand
+            System.out.println("Warm-up failed: " + e.getMessage());
+        } finally {
+            workers.shutdown();
+        }
+        warmUpMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        System.out.println("Warm-up created " + idleConnections.size() + " connections in " + warmUpMillis + " ms");
+        markReady();
+    }
+
+    private void markReady() {
+        warm = true;
+        ready.countDown();
+    }
+
+    private void refill() {
+        refillScheduled.set(false);
+        while (idleConnections.size() < config.getMinIdle() && reserveSlot()) {
+            idleConnections.offerLast(createInReservedSlot());
+        }
+    }
+
+    // Tops the idle set back up in the background so the next caller doesn't pay for creation
+    private void scheduleRefill() {
+        if (closed || config.getMinIdle() <= 0 || !refillScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            maintainer.execute(this::refill);
+        } catch (RejectedExecutionException e) {
+            // close() raced with this borrow; there is nothing left to refill
+            refillScheduled.set(false);
+        }
+    }
+
+    private boolean reserveSlot() {
+        while (true) {
+            int total = totalConnections.get();
+            if (total >= config.getMaxTotal()) {
+                return false;
+            }
+            if (totalConnections.compareAndSet(total, total + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // Creates a connection for a slot taken with reserveSlot(), giving the slot
+    // back if creation fails so the pool does not shrink below maxTotal
+    private PooledEntry createInReservedSlot() {
+        PooledEntry entry;
+        try {
+            entry = new PooledEntry(new DatabaseConnection());
+        } catch (RuntimeException e) {
+            totalConnections.decrementAndGet();
+            throw e;
+        }
+        entries.put(entry.connection, entry);
+        metrics.recordCreate();
+        return entry;
+    }
+
+    private void destroy(PooledEntry entry) {
+        entries.remove(entry.connection);
+        totalConnections.decrementAndGet();
+        metrics.recordEviction();
+        if (entry.connection.isValid()) {
+            entry.connection.disconnect();
+        }
+    }
+
+    private boolean isExpired(PooledEntry entry, long now) {
+        return now - entry.createdAtNanos > TimeUnit.MILLISECONDS.toNanos(config.getMaxLifetimeMillis());
+    }
+
+    private static class PooledEntry {
+        static final AtomicLongFieldUpdater<PooledEntry> BORROWED_AT = AtomicLongFieldUpdater
+                .newUpdater(PooledEntry.class, "borrowedAtNanos");
+
+        final DatabaseConnection connection;
+        final long createdAtNanos;
+        volatile long lastReturnedNanos;
+
+        // Borrow bookkeeping read by the leak detector; borrowedAtNanos is 0 while idle
+        volatile long borrowedAtNanos;
+        volatile Thread borrower;
+        volatile Throwable borrowSite;
+        volatile boolean leakReported;
+
+        PooledEntry(DatabaseConnection connection) {
+            this.connection = connection;
+            this.createdAtNanos = System.nanoTime();
+            this.lastReturnedNanos = createdAtNanos;
+        }
+    }
+}
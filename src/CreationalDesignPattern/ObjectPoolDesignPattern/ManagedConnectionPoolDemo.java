@@ -0,0 +1,64 @@
+package CreationalDesignPattern.ObjectPoolDesignPattern;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class ManagedConnectionPoolDemo {
+    public static void main(String[] args) throws InterruptedException {
+        PoolConfig config = new PoolConfig.PoolConfigBuilder(2, 5)
+                .idleTimeoutMillis(500)
+                .maxLifetimeMillis(3_000)
+                .maintenanceIntervalMillis(200)
+                .warmUpConnections(4)
+                .warmUpParallelism(4)
+                .build();
+
+        ManagedConnectionPool pool = new ManagedConnectionPool(config);
+        // Readiness signal: only admit traffic once the pool is warm
+        if (!pool.awaitReady(5, TimeUnit.SECONDS)) {
+            throw new IllegalStateException("Pool did not warm up in time");
+        }
+        System.out.println("After warm-up: " + pool);
+
+        // Burst of traffic grows the pool to its maximum
+        List<DatabaseConnection> burst = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            burst.add(pool.getConnection());
+        }
+        System.out.println("During burst: " + pool);
+
+        // A connection that was closed by its user is dropped instead of being pooled again
+        burst.get(0).disconnect();
+        for (DatabaseConnection conn : burst) {
+            pool.releaseConnection(conn);
+        }
+        boolean rejected = false;
+        try {
+            pool.releaseConnection(burst.get(1));
+        } catch (IllegalStateException expected) {
+            System.out.println("Rejected: " + expected.getMessage());
+            rejected = true;
+        }
+        if (!rejected) {
+            throw new IllegalStateException("Expected the second release to be rejected");
+        }
+        System.out.println("After burst: " + pool);
+
+        // Idle connections above minIdle are evicted by the maintainer
+        Thread.sleep(1_000);
+        System.out.println("After idle timeout: " + pool);
+
+        pool.close();
+        rejected = false;
+        try {
+            pool.getConnection();
+        } catch (IllegalStateException expected) {
+            System.out.println("Rejected: " + expected.getMessage());
+            rejected = true;
+        }
+        if (!rejected) {
+            throw new IllegalStateException("Expected a borrow after close() to be rejected");
+        }
+    }
+}
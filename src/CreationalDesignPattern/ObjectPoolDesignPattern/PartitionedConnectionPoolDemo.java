@@ -0,0 +1,315 @@
+package CreationalDesignPattern.ObjectPoolDesignPattern;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class PartitionedConnectionPoolDemo {
+    private static final int MAX_CONNECTIONS = 16;
+    private static final int HOT_THREADS = 32;
+    private static final long RUN_MILLIS = 2_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        PartitionedConnectionPool partitioned = new PartitionedConnectionPool(MAX_CONNECTIONS);
+        partitioned.addTenant("hot", 4, 1);
+        partitioned.addTenant("quiet", 4, 1);
+
+        LockFreeConnectionPool shared = new LockFreeConnectionPool(MAX_CONNECTIONS);
+
+        LatencyHistogram sharedLatency = run(
+                () -> {
+                    DatabaseConnection conn = shared.getConnection(5, TimeUnit.SECONDS);
+                    return () -> shared.releaseConnection(conn);
+                },
+                () -> {
+                    DatabaseConnection conn = shared.getConnection(5, TimeUnit.SECONDS);
+                    return () -> shared.releaseConnection(conn);
+                });
+        LatencyHistogram partitionedLatency = run(
+                () -> {
+                    DatabaseConnection conn = partitioned.getConnection("hot", 5, TimeUnit.SECONDS);
+                    return () -> partitioned.releaseConnection("hot", conn);
+                },
+                () -> {
+                    DatabaseConnection conn = partitioned.getConnection("quiet", 5, TimeUnit.SECONDS);
+                    return () -> partitioned.releaseConnection("quiet", conn);
+                });
+
+        System.out.println("Quiet tenant acquire latency while a hot tenant saturates the pool:");
+        System.out.println("  shared pool:      " + sharedLatency.summary());
+        System.out.println("  partitioned pool: " + partitionedLatency.summary());
+
+        // A connection goes back once, and only to the tenant that borrowed it
+        DatabaseConnection conn = partitioned.getConnection("quiet", 1, TimeUnit.SECONDS);
+        expectRejected(() -> partitioned.releaseConnection("hot", conn), "release under the wrong tenant");
+        partitioned.releaseConnection("quiet", conn);
+        expectRejected(() -> partitioned.releaseConnection("quiet", conn), "second release");
+    }
+
+    private static void expectRejected(Runnable release, String what) {
+        boolean rejected = false;
+        try {
+            release.run();
+        } catch (IllegalArgumentException e) {
+            System.out.println("Rejected " + what + ": " + e.getMessage());
+            rejected = true;
+        }
+        if (!rejected) {
+            throw new IllegalStateException("Expected the " + what + " to be rejected");
+        }
+    }
+
+    // Hot tenant hammers the pool from many threads; one quiet thread measures its own acquire latency
+    private static LatencyHistogram run(Borrower hot, Borrower quiet) throws InterruptedException {
+        LatencyHistogram quietLatency = new LatencyHistogram();
+        long deadline = System.currentTimeMillis() + RUN_MILLIS;
+
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < HOT_THREADS; t++) {
+            threads.add(new Thread(() -> {
+                while (System.currentTimeMillis() < deadline) {
+                    Runnable release = hot.borrow();
+                    sleepMillis(2);
+                    release.run();
+                }
+            }));
+        }
+        threads.add(new Thread(() -> {
+            while (System.currentTimeMillis() < deadline) {
+                long start = System.nanoTime();
+                Runnable release = quiet.borrow();
+                quietLatency.record(System.nanoTime() - start);
+                sleepMillis(1);
+                release.run();
+                sleepMillis(5);
+            }
+        }));
+
+        for (Thread thread : threads) {
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        return quietLatency;
+    }
+
+    private static void sleepMillis(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Borrows a connection and returns the action that gives it back
+    interface Borrower {
+        Runnable borrow();
+    }
+}
+
+// Connection pool split into per-tenant partitions. Each tenant has a guaranteed
+// minimum that no other tenant can touch; the remaining connections form a shared
+// overflow region. When several tenants wait for overflow, the next free slot goes
+// to the one with the lowest overflow usage relative to its weight.
+class PartitionedConnectionPool {
+    private final int maxConnections;
+    private final Map<String, TenantPartition> tenants = new ConcurrentHashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+    private int overflowFree; // guarded by lock
+
+    private final ConcurrentLinkedQueue<DatabaseConnection> idleConnections = new ConcurrentLinkedQueue<>();
+    // Borrowed connections and the partition whose permit they hold
+    private final Map<DatabaseConnection, TenantPartition> borrowed = new ConcurrentHashMap<>();
+    private final AtomicInteger createdConnections = new AtomicInteger();
+
+    public PartitionedConnectionPool(int maxConnections) {
+        if (maxConnections <= 0) {
+            throw new IllegalArgumentException("maxConnections must be positive");
+        }
+        this.maxConnections = maxConnections;
+        this.overflowFree = maxConnections;
+    }
+
+    public void addTenant(String tenant, int guaranteedMinimum, int weight) {
+        if (guaranteedMinimum < 0 || weight <= 0) {
+            throw new IllegalArgumentException("guaranteedMinimum must be non-negative and weight positive");
+        }
+        lock.lock();
+        try {
+            if (tenants.containsKey(tenant)) {
+                throw new IllegalArgumentException("Tenant " + tenant + " already exists");
+            }
+            if (guaranteedMinimum > overflowFree) {
+                throw new IllegalArgumentException("Not enough unreserved connections for tenant " + tenant);
+            }
+            overflowFree -= guaranteedMinimum;
+            tenants.put(tenant, new TenantPartition(guaranteedMinimum, weight, lock.newCondition()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public DatabaseConnection getConnection(String tenant, long timeout, TimeUnit unit) {
+        TenantPartition partition = partitionFor(tenant);
+        // Fast path: the tenant's own guaranteed connections never need the shared lock
+        if (partition.reserved.tryAcquire()) {
+            return takeConnection(partition);
+        }
+
+        lock.lock();
+        try {
+            partition.waiters.incrementAndGet();
+            long remaining = unit.toNanos(timeout);
+            try {
+                while (true) {
+                    if (partition.reserved.tryAcquire()) {
+                        break;
+                    }
+                    if (overflowFree > 0 && isNextForOverflow(partition)) {
+                        overflowFree--;
+                        partition.overflowInUse.incrementAndGet();
+                        break;
+                    }
+                    if (remaining <= 0) {
+                        throw new RuntimeException("Timed out waiting for a connection for tenant " + tenant);
+                    }
+                    remaining = partition.condition.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new RuntimeException("Interrupted while waiting for a connection", e);
+            } finally {
+                partition.waiters.decrementAndGet();
+                // If we gave up, or there is still overflow left, let the next tenant in line retry
+                if (overflowFree > 0) {
+                    signalNextOverflowWaiter();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        return takeConnection(partition);
+    }
+
+    // Overflow connections are given back first so the shared region frees up as early as possible
+    public void releaseConnection(String tenant, DatabaseConnection connection) {
+        TenantPartition partition = partitionFor(tenant);
+        // Checked before any permit is returned, so a bad release cannot inflate the limits
+        if (connection == null || !borrowed.remove(connection, partition)) {
+            throw new IllegalArgumentException("Connection is not borrowed by tenant " + tenant);
+        }
+        idleConnections.offer(connection);
+
+        if (decrementIfPositive(partition.overflowInUse)) {
+            lock.lock();
+            try {
+                overflowFree++;
+                signalNextOverflowWaiter();
+            } finally {
+                lock.unlock();
+            }
+            return;
+        }
+
+        partition.reserved.release();
+        if (partition.waiters.get() > 0) {
+            lock.lock();
+            try {
+                partition.condition.signal();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    public int getMaxConnections() {
+        return maxConnections;
+    }
+
+    private TenantPartition partitionFor(String tenant) {
+        TenantPartition partition = tenants.get(tenant);
+        if (partition == null) {
+            throw new IllegalArgumentException("Unknown tenant " + tenant);
+        }
+        return partition;
+    }
+
+    // Weighted fair share: compare (overflow in use + 1) / weight across waiting tenants
+    private boolean isNextForOverflow(TenantPartition candidate) {
+        TenantPartition next = nextOverflowWaiter();
+        return next == null || next == candidate || share(candidate) <= share(next);
+    }
+
+    private void signalNextOverflowWaiter() {
+        TenantPartition next = nextOverflowWaiter();
+        if (next != null) {
+            next.condition.signal();
+        }
+    }
+
+    private TenantPartition nextOverflowWaiter() {
+        TenantPartition best = null;
+        for (TenantPartition partition : tenants.values()) {
+            if (partition.waiters.get() > 0 && (best == null || share(partition) < share(best))) {
+                best = partition;
+            }
+        }
+        return best;
+    }
+
+    private static double share(TenantPartition partition) {
+        return (partition.overflowInUse.get() + 1) / (double) partition.weight;
+    }
+
+    private static boolean decrementIfPositive(AtomicInteger counter) {
+        while (true) {
+            int current = counter.get();
+            if (current <= 0) {
+                return false;
+            }
+            if (counter.compareAndSet(current, current - 1)) {
+                return true;
+            }
+        }
+    }
+
+    // A granted permit guarantees a connection is idle or may still be created
+    private DatabaseConnection takeConnection(TenantPartition partition) {
+        while (true) {
+            DatabaseConnection conn = idleConnections.poll();
+            if (conn == null) {
+                int created = createdConnections.get();
+                if (created < maxConnections && createdConnections.compareAndSet(created, created + 1)) {
+                    conn = new DatabaseConnection();
+                }
+            }
+            if (conn != null) {
+                borrowed.put(conn, partition);
+                return conn;
+            }
+            Thread.onSpinWait();
+        }
+    }
+
+    private static class TenantPartition {
+        final Semaphore reserved;
+        final int weight;
+        final Condition condition;
+        final AtomicInteger overflowInUse = new AtomicInteger();
+        final AtomicInteger waiters = new AtomicInteger();
+
+        TenantPartition(int guaranteedMinimum, int weight, Condition condition) {
+            this.reserved = new Semaphore(guaranteedMinimum);
+            this.weight = weight;
+            this.condition = condition;
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package CreationalDesignPattern.ObjectPoolDesignPattern;
+
+import java.util.concurrent.TimeUnit;
+
+// Pool settings, built the same way as the other builders in this repo
+class PoolConfig {
+    private final int minIdle;
+    private final int maxTotal;
+    private final long maxLifetimeMillis;
+    private final long idleTimeoutMillis;
+    private final long maintenanceIntervalMillis;
+    private final long acquireTimeoutMillis;
+    private final long leakDetectionThresholdMillis;
+    private final boolean captureBorrowSite;
+    private final int warmUpConnections;
+    private final int warmUpParallelism;
+
+    private PoolConfig(PoolConfigBuilder builder) {
+        this.minIdle = builder.minIdle;
+        this.maxTotal = builder.maxTotal;
+        this.maxLifetimeMillis = builder.maxLifetimeMillis;
+        this.idleTimeoutMillis = builder.idleTimeoutMillis;
+        this.maintenanceIntervalMillis = builder.maintenanceIntervalMillis;
+        this.acquireTimeoutMillis = builder.acquireTimeoutMillis;
+        this.leakDetectionThresholdMillis = builder.leakDetectionThresholdMillis;
+        this.captureBorrowSite = builder.captureBorrowSite;
+        this.warmUpConnections = builder.warmUpConnections;
+        this.warmUpParallelism = builder.warmUpParallelism;
+    }
+
+    public int getMinIdle() {
+        return minIdle;
+    }
+
+    public int getMaxTotal() {
+        return maxTotal;
+    }
+
+    public long getMaxLifetimeMillis() {
+        return maxLifetimeMillis;
+    }
+
+    public long getIdleTimeoutMillis() {
+        return idleTimeoutMillis;
+    }
+
+    public long getMaintenanceIntervalMillis() {
+        return maintenanceIntervalMillis;
+    }
+
+    public long getAcquireTimeoutMillis() {
+        return acquireTimeoutMillis;
+    }
+
+    public long getLeakDetectionThresholdMillis() {
+        return leakDetectionThresholdMillis;
+    }
+
+    public boolean isCaptureBorrowSite() {
+        return captureBorrowSite;
+    }
+
+    public int getWarmUpConnections() {
+        return warmUpConnections;
+    }
+
+    public int getWarmUpParallelism() {
+        return warmUpParallelism;
+    }
+
+    public static class PoolConfigBuilder {
+        private final int minIdle;
+        private final int maxTotal;
+
+        private long maxLifetimeMillis = TimeUnit.MINUTES.toMillis(30);
+        private long idleTimeoutMillis = TimeUnit.MINUTES.toMillis(10);
+        private long maintenanceIntervalMillis = TimeUnit.SECONDS.toMillis(30);
+        private long acquireTimeoutMillis = TimeUnit.SECONDS.toMillis(30);
+        private long leakDetectionThresholdMillis; // 0 disables leak detection
+        private boolean captureBorrowSite;
+        private int warmUpConnections; // 0 admits traffic immediately
+        private int warmUpParallelism = Runtime.getRuntime().availableProcessors();
+
+        public PoolConfigBuilder(int minIdle, int maxTotal) {
+            this.minIdle = minIdle;
+            this.maxTotal = maxTotal;
+        }
+
+        public PoolConfigBuilder maxLifetimeMillis(long maxLifetimeMillis) {
+            this.maxLifetimeMillis = maxLifetimeMillis;
+            return this;
+        }
+
+        public PoolConfigBuilder idleTimeoutMillis(long idleTimeoutMillis) {
+            this.idleTimeoutMillis = idleTimeoutMillis;
+            return this;
+        }
+
+        public PoolConfigBuilder maintenanceIntervalMillis(long maintenanceIntervalMillis) {
+            this.maintenanceIntervalMillis = maintenanceIntervalMillis;
+            return this;
+        }
+
+        public PoolConfigBuilder acquireTimeoutMillis(long acquireTimeoutMillis) {
+            this.acquireTimeoutMillis = acquireTimeoutMillis;
+            return this;
+        }
+
+        public PoolConfigBuilder leakDetectionThresholdMillis(long leakDetectionThresholdMillis) {
+            this.leakDetectionThresholdMillis = leakDetectionThresholdMillis;
+            return this;
+        }
+
+        // Records a stack trace on every borrow. Pinpoints the leaking call site, but
+        // allocates on the acquire path, so it is off by default; without it a leak
+        // report shows where the borrowing thread is currently running.
+        public PoolConfigBuilder captureBorrowSite(boolean captureBorrowSite) {
+            this.captureBorrowSite = captureBorrowSite;
+            return this;
+        }
+
+        // Connections created in parallel at start-up before the pool reports ready
+        public PoolConfigBuilder warmUpConnections(int warmUpConnections) {
+            this.warmUpConnections = warmUpConnections;
+            return this;
+        }
+
+        public PoolConfigBuilder warmUpParallelism(int warmUpParallelism) {
+            this.warmUpParallelism = warmUpParallelism;
+            return this;
+        }
+
+        public PoolConfig build() {
+            if (maxTotal <= 0 || minIdle < 0 || minIdle > maxTotal) {
+                throw new IllegalArgumentException("Require 0 <= minIdle <= maxTotal and maxTotal > 0");
+            }
+            if (warmUpConnections < 0 || warmUpConnections > maxTotal || warmUpParallelism <= 0) {
+                throw new IllegalArgumentException("Require 0 <= warmUpConnections <= maxTotal and warmUpParallelism > 0");
+            }
+            if (maintenanceIntervalMillis <= 0) {
+                throw new IllegalArgumentException("maintenanceIntervalMillis must be positive");
+            }
+            return new PoolConfig(this);
+        }
+    }
+}
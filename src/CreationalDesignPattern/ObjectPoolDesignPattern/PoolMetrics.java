@@ -0,0 +1,91 @@
+package CreationalDesignPattern.ObjectPoolDesignPattern;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Counters, latency histograms and utilization samples for a connection pool.
+// Every record* method is allocation-free so it can sit on the acquire/release path.
+class PoolMetrics {
+    private static final int UTILIZATION_SAMPLES = 120;
+
+    private final LongAdder borrows = new LongAdder();
+    private final LongAdder returns = new LongAdder();
+    private final LongAdder creates = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final LongAdder leaks = new LongAdder();
+    private final LatencyHistogram acquireWait = new LatencyHistogram();
+    private final LatencyHistogram holdTime = new LatencyHistogram();
+
+    // Ring buffer of in-use / max ratios, written by the pool's maintainer thread
+    private final double[] utilization = new double[UTILIZATION_SAMPLES];
+    private int utilizationNext;
+    private int utilizationCount;
+
+    public void recordBorrow(long waitNanos) {
+        borrows.increment();
+        acquireWait.record(waitNanos);
+    }
+
+    public void recordReturn(long heldNanos) {
+        returns.increment();
+        holdTime.record(heldNanos);
+    }
+
+    public void recordCreate() {
+        creates.increment();
+    }
+
+    public void recordEviction() {
+        evictions.increment();
+    }
+
+    public void recordTimeout() {
+        timeouts.increment();
+    }
+
+    public void recordLeak() {
+        leaks.increment();
+    }
+
+    public synchronized void sampleUtilization(int inUse, int max) {
+        utilization[utilizationNext] = max == 0 ? 0 : (double) inUse / max;
+        utilizationNext = (utilizationNext + 1) % UTILIZATION_SAMPLES;
+        if (utilizationCount < UTILIZATION_SAMPLES) {
+            utilizationCount++;
+        }
+    }
+
+    // Oldest sample first
+    public synchronized double[] getUtilizationHistory() {
+        double[] history = new double[utilizationCount];
+        int start = (utilizationNext - utilizationCount + UTILIZATION_SAMPLES) % UTILIZATION_SAMPLES;
+        for (int i = 0; i < utilizationCount; i++) {
+            history[i] = utilization[(start + i) % UTILIZATION_SAMPLES];
+        }
+        return history;
+    }
+
+    public LatencyHistogram getAcquireWait() {
+        return acquireWait;
+    }
+
+    public LatencyHistogram getHoldTime() {
+        return holdTime;
+    }
+
+    public String report() {
+        double[] history = getUtilizationHistory();
+        double peak = 0;
+        double sum = 0;
+        for (double sample : history) {
+            peak = Math.max(peak, sample);
+            sum += sample;
+        }
+        return "PoolMetrics [borrows=" + borrows.sum() + ", returns=" + returns.sum() + ", creates=" + creates.sum()
+                + ", evictions=" + evictions.sum() + ", timeouts=" + timeouts.sum() + ", leaks=" + leaks.sum() + "]"
+                + "\n  acquire wait: " + acquireWait.summary()
+                + "\n  hold time:    " + holdTime.summary()
+                + String.format("%n  utilization: avg=%.0f%% peak=%.0f%% over %d samples",
+                        history.length == 0 ? 0 : 100 * sum / history.length, 100 * peak, history.length);
+    }
+}
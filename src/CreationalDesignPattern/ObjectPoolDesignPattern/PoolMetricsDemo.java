@@ -0,0 +1,53 @@
+package CreationalDesignPattern.ObjectPoolDesignPattern;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class PoolMetricsDemo {
+    public static void main(String[] args) throws InterruptedException {
+        PoolConfig config = new PoolConfig.PoolConfigBuilder(2, 4)
+                .maintenanceIntervalMillis(100)
+                .leakDetectionThresholdMillis(500)
+                .build();
+        ManagedConnectionPool pool = new ManagedConnectionPool(config);
+
+        // Well-behaved workers: short queries, connection always returned
+        List<Thread> workers = new ArrayList<>();
+        for (int t = 0; t < 6; t++) {
+            Thread worker = new Thread(() -> {
+                for (int i = 0; i < 200; i++) {
+                    DatabaseConnection conn = pool.getConnection();
+                    try {
+                        Thread.sleep(ThreadLocalRandom.current().nextInt(1, 5));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        pool.releaseConnection(conn);
+                    }
+                }
+            }, "worker-" + t);
+            workers.add(worker);
+            worker.start();
+        }
+
+        // A buggy caller that forgets to release its connection
+        Thread leaker = new Thread(() -> {
+            pool.getConnection().connect();
+            try {
+                Thread.sleep(2_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "leaky-report-job");
+        leaker.start();
+
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        leaker.join();
+
+        System.out.println(pool.getMetrics().report());
+        pool.close();
+    }
+}
@@ -0,0 +1,171 @@
+package CreationalDesignPattern.ObjectPoolDesignPattern;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+public class ScratchObjectPool {
+    private static final int THREADS = 8;
+    private static final int BORROWS_PER_THREAD = 1_000_000;
+
+    public static void main(String[] args) throws InterruptedException {
+        MagazineObjectPool<StringBuilder> pool = new MagazineObjectPool<>(
+                () -> new StringBuilder(256), sb -> sb.setLength(0), 32, 1024);
+
+        StringBuilder sb1 = pool.borrow();
+        sb1.append("scratch data");
+        pool.release(sb1);
+        StringBuilder sb2 = pool.borrow();
+        System.out.println("Same instance reused: " + (sb1 == sb2) + ", reset length: " + sb2.length());
+        pool.release(sb2);
+
+        long magazineNanos = measure(() -> {
+            StringBuilder sb = pool.borrow();
+            sb.append('x');
+            pool.release(sb);
+        });
+        long synchronizedNanos = measure(() -> {
+            Object obj = ObjectPool.getObject();
+            ObjectPool.releaseObject(obj);
+        });
+
+        System.out.println("Magazine pool:     " + magazineNanos / 1_000_000 + " ms, objects created: "
+                + pool.getCreatedCount());
+        System.out.println("Synchronized pool: " + synchronizedNanos / 1_000_000 + " ms");
+    }
+
+    private static long measure(Runnable borrowAndRelease) throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(THREADS);
+        long start = System.nanoTime();
+        for (int t = 0; t < THREADS; t++) {
+            new Thread(() -> {
+                for (int i = 0; i < BORROWS_PER_THREAD; i++) {
+                    borrowAndRelease.run();
+                }
+                done.countDown();
+            }).start();
+        }
+        done.await();
+        return System.nanoTime() - start;
+    }
+}
+
+// Generic pool with per-thread magazines in front of a shared depot, in the
+// style of a slab allocator. Each thread keeps a "loaded" and a "previous"
+// magazine; borrows and returns only touch the depot when both are empty or
+// both are full, so the common path never touches shared state.
+class MagazineObjectPool<T> {
+    private final Supplier<T> factory;
+    private final Consumer<T> resetHook;
+    private final int magazineSize;
+    private final int maxCapacity;
+
+    // Depot of full magazines shared between threads, plus spare empty ones
+    private final ConcurrentLinkedQueue<Object[]> fullMagazines = new ConcurrentLinkedQueue<>();
+    private final ConcurrentLinkedQueue<Object[]> emptyMagazines = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger depotObjects = new AtomicInteger();
+    private final LongAdder createdCount = new LongAdder();
+
+    private final ThreadLocal<ThreadCache> caches;
+
+    // maxCapacity bounds the objects parked in the shared depot; each thread can
+    // additionally hold up to two magazines (2 * magazineSize objects) locally
+    public MagazineObjectPool(Supplier<T> factory, Consumer<T> resetHook, int magazineSize, int maxCapacity) {
+        if (magazineSize <= 0 || maxCapacity < 0) {
+            throw new IllegalArgumentException("magazineSize must be positive and maxCapacity non-negative");
+        }
+        this.factory = factory;
+        this.resetHook = resetHook;
+        this.magazineSize = magazineSize;
+        this.maxCapacity = maxCapacity;
+        this.caches = ThreadLocal.withInitial(ThreadCache::new);
+    }
+
+    @SuppressWarnings("unchecked")
+    public T borrow() {
+        ThreadCache cache = caches.get();
+        if (cache.loadedCount == 0) {
+            if (cache.previousCount > 0) {
+                cache.swap();
+            } else {
+                Object[] full = fullMagazines.poll();
+                if (full == null) {
+                    createdCount.increment();
+                    return factory.get();
+                }
+                depotObjects.addAndGet(-magazineSize);
+                // Both local magazines are empty: keep one as previous, recycle the other
+                emptyMagazines.offer(cache.previous);
+                cache.previous = cache.loaded;
+                cache.previousCount = 0;
+                cache.loaded = full;
+                cache.loadedCount = magazineSize;
+            }
+        }
+        int index = --cache.loadedCount;
+        T obj = (T) cache.loaded[index];
+        cache.loaded[index] = null;
+        return obj;
+    }
+
+    public void release(T obj) {
+        resetHook.accept(obj);
+        ThreadCache cache = caches.get();
+        if (cache.loadedCount == magazineSize) {
+            if (cache.previousCount == 0) {
+                cache.swap();
+            } else if (reserveDepotSpace()) {
+                // Both local magazines are full: hand one to the depot
+                fullMagazines.offer(cache.previous);
+                cache.previous = cache.loaded;
+                cache.previousCount = magazineSize;
+                Object[] empty = emptyMagazines.poll();
+                cache.loaded = empty != null ? empty : new Object[magazineSize];
+                cache.loadedCount = 0;
+            } else {
+                // Pool is at capacity; let the garbage collector reclaim the object
+                return;
+            }
+        }
+        cache.loaded[cache.loadedCount++] = obj;
+    }
+
+    public long getCreatedCount() {
+        return createdCount.sum();
+    }
+
+    public int getDepotSize() {
+        return depotObjects.get();
+    }
+
+    private boolean reserveDepotSpace() {
+        while (true) {
+            int current = depotObjects.get();
+            if (current + magazineSize > maxCapacity) {
+                return false;
+            }
+            if (depotObjects.compareAndSet(current, current + magazineSize)) {
+                return true;
+            }
+        }
+    }
+
+    private final class ThreadCache {
+        Object[] loaded = new Object[magazineSize];
+        int loadedCount;
+        Object[] previous = new Object[magazineSize];
+        int previousCount;
+
+        void swap() {
+            Object[] magazine = loaded;
+            int count = loadedCount;
+            loaded = previous;
+            loadedCount = previousCount;
+            previous = magazine;
+            previousCount = count;
+        }
+    }
+}
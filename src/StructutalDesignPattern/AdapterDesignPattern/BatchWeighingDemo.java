@@ -0,0 +1,210 @@
+package StructutalDesignPattern.AdapterDesignPattern;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Random;
+
+public class BatchWeighingDemo {
+    private static final int SAMPLES = 16 * 1024 * 1024;
+
+    public static void main(String[] args) throws IOException {
+        double[] pounds = new double[SAMPLES];
+        Random random = new Random(1);
+        for (int i = 0; i < SAMPLES; i++) {
+            pounds[i] = 100 + random.nextDouble() * 150;
+        }
+        double[] kg = new double[SAMPLES];
+        BatchWeightMachineAdapter batch = new BatchWeightMachineAdapter(new WeightMachineImpl());
+        System.out.println("Single reading: " + batch.getWeightInKg() + " kg");
+
+        // The scale as a stream of readings behind the existing single-value adapter
+        ReplayWeightMachine scale = new ReplayWeightMachine(pounds);
+        WeightMachineAdapter perSample = new WeightMachineAdapterImpl(scale);
+
+        DoubleBuffer heapIn = DoubleBuffer.wrap(pounds);
+        DoubleBuffer heapOut = DoubleBuffer.wrap(kg);
+        DoubleBuffer directIn = ByteBuffer.allocateDirect(SAMPLES * Double.BYTES).order(ByteOrder.nativeOrder())
+                .asDoubleBuffer().put(pounds);
+        DoubleBuffer directOut = ByteBuffer.allocateDirect(SAMPLES * Double.BYTES).order(ByteOrder.nativeOrder())
+                .asDoubleBuffer();
+
+        Path file = Files.createTempFile("scale-readings", ".bin");
+        file.toFile().deleteOnExit();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            ByteBuffer bytes = ByteBuffer.allocate(SAMPLES * Double.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            bytes.asDoubleBuffer().put(pounds);
+            while (bytes.hasRemaining()) {
+                channel.write(bytes);
+            }
+        }
+
+        double[] expected = new double[SAMPLES];
+        double[] fileKg = new double[SAMPLES];
+        for (int round = 0; round < 5; round++) {
+            long start = System.nanoTime();
+            scale.rewind();
+            for (int i = 0; i < SAMPLES; i++) {
+                expected[i] = perSample.getWeightInKg();
+            }
+            long perSampleNanos = System.nanoTime() - start;
+
+            // Each batch path must reproduce every per-sample result, so outputs are cleared in between
+            Arrays.fill(kg, Double.NaN);
+            start = System.nanoTime();
+            batch.poundsToKg(pounds, 0, kg, 0, SAMPLES);
+            long arrayNanos = System.nanoTime() - start;
+            verify("double[]", Arrays.equals(kg, expected));
+
+            Arrays.fill(kg, Double.NaN);
+            heapIn.clear();
+            heapOut.clear();
+            start = System.nanoTime();
+            batch.poundsToKg(heapIn, heapOut);
+            long heapNanos = System.nanoTime() - start;
+            verify("heap buffer", Arrays.equals(kg, expected));
+
+            directIn.clear();
+            directOut.clear();
+            start = System.nanoTime();
+            batch.poundsToKg(directIn, directOut);
+            long directNanos = System.nanoTime() - start;
+            boolean directMatches = true;
+            for (int i = 0; i < SAMPLES && directMatches; i++) {
+                directMatches = Double.compare(directOut.get(i), expected[i]) == 0;
+            }
+            verify("direct buffer", directMatches);
+
+            Arrays.fill(fileKg, Double.NaN);
+            int[] filled = new int[1];
+            start = System.nanoTime();
+            long converted = batch.convertFile(file, ByteOrder.LITTLE_ENDIAN, (values, length) -> {
+                System.arraycopy(values, 0, fileKg, filled[0], length);
+                filled[0] += length;
+            });
+            long fileNanos = System.nanoTime() - start;
+            verify("mapped file", converted == SAMPLES && Arrays.equals(fileKg, expected));
+            System.out.printf("M samples/s: per-sample %6.0f | double[] %6.0f | heap buffer %6.0f | direct buffer %6.0f | mapped file %6.0f%n",
+                    rate(perSampleNanos), rate(arrayNanos), rate(heapNanos), rate(directNanos), rate(fileNanos));
+        }
+    }
+
+    private static void verify(String path, boolean matches) {
+        if (!matches) {
+            throw new IllegalStateException("Batch conversion through " + path + " differs from per-sample conversion");
+        }
+    }
+
+    private static double rate(long nanos) {
+        return SAMPLES / (nanos / 1e3);
+    }
+}
+
+// Plays back recorded readings one getWeightInPounds() call at a time
+class ReplayWeightMachine implements WeightMachine {
+    private final double[] readings;
+    private int next;
+
+    public ReplayWeightMachine(double[] readings) {
+        this.readings = readings;
+    }
+
+    public void rewind() {
+        next = 0;
+    }
+
+    @Override
+    public double getWeightInPounds() {
+        double reading = readings[next];
+        next = next + 1 == readings.length ? 0 : next + 1;
+        return reading;
+    }
+}
+
+// Receives converted samples; the array is reused after the call returns
+interface WeightSampleSink {
+    void accept(double[] kg, int length);
+}
+
+// WeightMachineAdapter that can also convert whole batches of pound readings.
+// The batch loops are plain counted loops over double[], which HotSpot's C2
+// compiles to SIMD multiplies; buffers that are not array-backed are copied
+// through a small scratch array so they take the same loop. An instance is
+// not thread-safe because of that scratch array.
+class BatchWeightMachineAdapter implements WeightMachineAdapter {
+    private static final int CHUNK = 4096;
+
+    private final WeightMachine weightMachine;
+    private final double[] scratch = new double[CHUNK];
+
+    public BatchWeightMachineAdapter(WeightMachine weightMachine) {
+        this.weightMachine = weightMachine;
+    }
+
+    @Override
+    public double getWeightInKg() {
+        return weightMachine.getWeightInPounds() * WeightMachineAdapterImpl.KG_PER_POUND;
+    }
+
+    public void poundsToKg(double[] pounds, int fromIndex, double[] kg, int toIndex, int length) {
+        Objects.checkFromIndexSize(fromIndex, length, pounds.length);
+        Objects.checkFromIndexSize(toIndex, length, kg.length);
+        double factor = WeightMachineAdapterImpl.KG_PER_POUND;
+        for (int i = 0; i < length; i++) {
+            kg[toIndex + i] = pounds[fromIndex + i] * factor;
+        }
+    }
+
+    // Converts pounds.remaining() samples and advances both buffers
+    public void poundsToKg(DoubleBuffer pounds, DoubleBuffer kg) {
+        int length = pounds.remaining();
+        if (kg.remaining() < length) {
+            throw new IllegalArgumentException("Output has room for " + kg.remaining() + " of " + length + " samples");
+        }
+        if (pounds.hasArray() && kg.hasArray() && !kg.isReadOnly()) {
+            poundsToKg(pounds.array(), pounds.arrayOffset() + pounds.position(), kg.array(),
+                    kg.arrayOffset() + kg.position(), length);
+            pounds.position(pounds.position() + length);
+            kg.position(kg.position() + length);
+            return;
+        }
+        while (pounds.hasRemaining()) {
+            int chunk = Math.min(CHUNK, pounds.remaining());
+            pounds.get(scratch, 0, chunk);
+            poundsToKg(scratch, 0, scratch, 0, chunk);
+            kg.put(scratch, 0, chunk);
+        }
+    }
+
+    // Streams a file of raw 8-byte pound readings through memory-mapped windows
+    // and hands the converted kilograms to the sink in chunks. Returns the number
+    // of samples; a trailing partial sample is ignored.
+    public long convertFile(Path file, ByteOrder order, WeightSampleSink sink) throws IOException {
+        long windowBytes = 64L * 1024 * 1024;
+        long samples = 0;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size() - channel.size() % Double.BYTES;
+            for (long position = 0; position < size; position += windowBytes) {
+                MappedByteBuffer window = channel.map(FileChannel.MapMode.READ_ONLY, position,
+                        Math.min(windowBytes, size - position));
+                DoubleBuffer pounds = window.order(order).asDoubleBuffer();
+                while (pounds.hasRemaining()) {
+                    int chunk = Math.min(CHUNK, pounds.remaining());
+                    pounds.get(scratch, 0, chunk);
+                    poundsToKg(scratch, 0, scratch, 0, chunk);
+                    sink.accept(scratch, chunk);
+                    samples += chunk;
+                }
+            }
+        }
+        return samples;
+    }
+}
@@ -0,0 +1,5 @@
+package StructutalDesignPattern.AdapterDesignPattern;
+
+enum Dimension {
+    MASS, LENGTH, VOLUME
+}
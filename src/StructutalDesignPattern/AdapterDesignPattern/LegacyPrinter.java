@@ -0,0 +1,11 @@
+package StructutalDesignPattern.AdapterDesignPattern;
+
+class LegacyPrinter {
+    public void printDocument() {
+        System.out.println("Legacy Printer is printing a document.");
+    }
+
+    public void printDocument(String document) {
+        System.out.println("Legacy Printer is printing: " + document);
+    }
+}
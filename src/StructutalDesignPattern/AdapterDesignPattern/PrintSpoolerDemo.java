@@ -0,0 +1,400 @@
+package StructutalDesignPattern.AdapterDesignPattern;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class PrintSpoolerDemo {
+    private static final int DOCUMENTS = 200;
+
+    public static void main(String[] args) throws Exception {
+        // Before: the caller waits for every print
+        SlowLegacyPrinter direct = new SlowLegacyPrinter(10, 2_000);
+        Printer blocking = new PrinterAdapter(direct);
+        long start = System.nanoTime();
+        for (int i = 0; i < 20; i++) {
+            blocking.print();
+        }
+        System.out.printf("PrinterAdapter: caller blocked %.1f ms/document%n", (System.nanoTime() - start) / 20 / 1e6);
+
+        List<SlowLegacyPrinter> printers = List.of(new SlowLegacyPrinter(10, 2_000), new SlowLegacyPrinter(10, 2_000));
+        try (PrintSpooler spooler = new PrintSpooler(printers, 64, 4_096, 16)) {
+            SpoolingPrinterAdapter adapter = new SpoolingPrinterAdapter(spooler);
+            adapter.print();
+
+            List<PrintJob> jobs = new ArrayList<>();
+            long maxSubmitNanos = 0;
+            start = System.nanoTime();
+            for (int i = 0; i < DOCUMENTS; i++) {
+                long submitStart = System.nanoTime();
+                jobs.add(adapter.print("Invoice " + i + ": " + "x".repeat(50 + i % 200)));
+                maxSubmitNanos = Math.max(maxSubmitNanos, System.nanoTime() - submitStart);
+            }
+            long submitNanos = System.nanoTime() - start;
+
+            // Cancel the tail of the backlog; only jobs still queued can be cancelled
+            int cancelled = 0;
+            for (int i = DOCUMENTS - 1; i >= DOCUMENTS - 30; i--) {
+                if (jobs.get(i).cancel(false)) {
+                    cancelled++;
+                }
+            }
+            int completed = 0;
+            for (PrintJob job : jobs) {
+                if (!job.isCancelled()) {
+                    job.get(10, TimeUnit.SECONDS);
+                    completed++;
+                }
+            }
+            long totalNanos = System.nanoTime() - start;
+
+            long printed = printers.get(0).getDocumentsPrinted() + printers.get(1).getDocumentsPrinted();
+            long deviceJobs = printers.get(0).getDeviceJobs() + printers.get(1).getDeviceJobs();
+            // The adapter.print() job above is included in the spooler's counts
+            if (printed != completed + 1 || spooler.getDocumentsPrinted() != completed + 1
+                    || spooler.getCancelled() != cancelled) {
+                throw new IllegalStateException("Printed " + printed + " documents, expected " + (completed + 1));
+            }
+            System.out.printf("PrintSpooler: %d submits took %.2f ms in total (worst %.2f ms), %d cancelled,"
+                    + " %d printed in %d device jobs, all done after %.0f ms%n", DOCUMENTS, submitNanos / 1e6,
+                    maxSubmitNanos / 1e6, cancelled, printed, deviceJobs, totalNanos / 1e6);
+            System.out.println(spooler);
+        }
+
+        // close() prints what was accepted and rejects anything after it
+        PrintSpooler closing = new PrintSpooler(List.of(new SlowLegacyPrinter(1, 0)), 4, 64, 1);
+        PrintJob last = closing.submit("Last page");
+        closing.close();
+        boolean rejected = false;
+        try {
+            closing.submit("Too late");
+        } catch (IllegalStateException expected) {
+            rejected = true;
+        }
+        if (!last.isDone() || !rejected) {
+            throw new IllegalStateException("close() must drain accepted jobs and reject new ones");
+        }
+    }
+}
+
+// Stands in for a real device: every device job pays a fixed setup time, plus
+// a transfer time per character. Safe to call from one thread at a time.
+class SlowLegacyPrinter extends LegacyPrinter {
+    private final long setupMillis;
+    private final long nanosPerChar;
+    private long deviceJobs;
+    private long documentsPrinted;
+
+    public SlowLegacyPrinter(long setupMillis, long nanosPerChar) {
+        this.setupMillis = setupMillis;
+        this.nanosPerChar = nanosPerChar;
+    }
+
+    @Override
+    public void printDocument() {
+        printDocument("Untitled");
+    }
+
+    @Override
+    public void printDocument(String document) {
+        try {
+            TimeUnit.NANOSECONDS.sleep(TimeUnit.MILLISECONDS.toNanos(setupMillis) + nanosPerChar * document.length());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while printing", e);
+        }
+        deviceJobs++;
+        documentsPrinted += 1 + document.chars().filter(c -> c == PrintSpooler.DOCUMENT_SEPARATOR).count();
+    }
+
+    public long getDeviceJobs() {
+        return deviceJobs;
+    }
+
+    public long getDocumentsPrinted() {
+        return documentsPrinted;
+    }
+}
+
+// A queued document. Completes when the device has printed it; cancel()
+// succeeds only while the job is still waiting in the queue, and is counted
+// by the spooler as soon as it succeeds.
+class PrintJob extends CompletableFuture<Void> {
+    private static final int QUEUED = 0;
+    private static final int PRINTING = 1;
+    private static final int CANCELLED = 2;
+
+    private final String document;
+    private final long submittedNanos = System.nanoTime();
+    private final AtomicInteger state = new AtomicInteger(QUEUED);
+    private final LongAdder cancelledJobs;
+
+    PrintJob(String document, LongAdder cancelledJobs) {
+        this.document = document;
+        this.cancelledJobs = cancelledJobs;
+    }
+
+    public String getDocument() {
+        return document;
+    }
+
+    long getSubmittedNanos() {
+        return submittedNanos;
+    }
+
+    // Called by a worker before the job is sent to a device
+    boolean claim() {
+        return state.compareAndSet(QUEUED, PRINTING);
+    }
+
+    @Override
+    public boolean cancel(boolean mayInterruptIfRunning) {
+        if (!state.compareAndSet(QUEUED, CANCELLED)) {
+            return false;
+        }
+        cancelledJobs.increment();
+        return super.cancel(mayInterruptIfRunning);
+    }
+}
+
+// Printer whose print() hands the document to a spooler and returns at once
+class SpoolingPrinterAdapter implements Printer {
+    private final PrintSpooler spooler;
+
+    public SpoolingPrinterAdapter(PrintSpooler spooler) {
+        this.spooler = spooler;
+    }
+
+    @Override
+    public void print() {
+        spooler.submit("Untitled");
+    }
+
+    public PrintJob print(String document) {
+        return spooler.submit(document);
+    }
+}
+
+// Spools documents to one or more LegacyPrinters. Jobs wait in a bounded
+// queue, so submit() blocks only when the queue is full. Each printer has
+// its own worker thread, since a LegacyPrinter handles one job at a time.
+// A worker that takes a small document also takes the small documents queued
+// behind it, up to maxBatch documents and coalesceChars characters, and
+// sends them to the device as one job separated by form feeds. That way the
+// device setup cost is paid once per batch instead of once per document.
+class PrintSpooler implements AutoCloseable {
+    static final char DOCUMENT_SEPARATOR = '\f';
+
+    private final BlockingQueue<PrintJob> queue;
+    private final int coalesceChars;
+    private final int maxBatch;
+    private final List<Thread> workers = new ArrayList<>();
+    private volatile boolean closed;
+    // Submits between their closed check and their enqueue; workers wait for them before exiting
+    private final AtomicInteger submitting = new AtomicInteger();
+
+    private final AtomicInteger peakQueueDepth = new AtomicInteger();
+    private final LongAdder deviceJobs = new LongAdder();
+    private final LongAdder documentsPrinted = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+    private final LongAdder totalLatencyNanos = new LongAdder();
+    private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+    public PrintSpooler(List<? extends LegacyPrinter> printers, int queueCapacity, int coalesceChars, int maxBatch) {
+        if (printers.isEmpty()) {
+            throw new IllegalArgumentException("At least one printer is required");
+        }
+        if (maxBatch < 1) {
+            throw new IllegalArgumentException("maxBatch must be at least 1");
+        }
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.coalesceChars = coalesceChars;
+        this.maxBatch = maxBatch;
+        for (int i = 0; i < printers.size(); i++) {
+            LegacyPrinter printer = printers.get(i);
+            Thread worker = new Thread(() -> work(printer), "print-spooler-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    public PrintJob submit(String document) {
+        PrintJob job = new PrintJob(document, cancelled);
+        enterSubmit();
+        try {
+            queue.put(job);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for queue space", e);
+        } finally {
+            submitting.decrementAndGet();
+        }
+        peakQueueDepth.accumulateAndGet(queue.size(), Math::max);
+        return job;
+    }
+
+    // Like submit(), but fails instead of waiting when the queue is full
+    public PrintJob trySubmit(String document) {
+        PrintJob job = new PrintJob(document, cancelled);
+        enterSubmit();
+        try {
+            if (!queue.offer(job)) {
+                throw new IllegalStateException("Print queue is full");
+            }
+        } finally {
+            submitting.decrementAndGet();
+        }
+        peakQueueDepth.accumulateAndGet(queue.size(), Math::max);
+        return job;
+    }
+
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    public int getPeakQueueDepth() {
+        return peakQueueDepth.get();
+    }
+
+    public long getDeviceJobs() {
+        return deviceJobs.sum();
+    }
+
+    public long getDocumentsPrinted() {
+        return documentsPrinted.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public long getCancelled() {
+        return cancelled.sum();
+    }
+
+    // Submit-to-completion latency of printed documents
+    public double getAverageLatencyMillis() {
+        long documents = documentsPrinted.sum();
+        return documents == 0 ? 0 : totalLatencyNanos.sum() / 1e6 / documents;
+    }
+
+    public double getMaxLatencyMillis() {
+        return maxLatencyNanos.get() / 1e6;
+    }
+
+    // Stops accepting documents and waits for the queued ones to be printed.
+    // If the caller is interrupted it stops waiting and keeps the interrupt
+    // flag set; the workers still finish the queue in the background.
+    @Override
+    public void close() {
+        closed = true;
+        try {
+            for (Thread worker : workers) {
+                worker.join();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "PrintSpooler [queueDepth=" + getQueueDepth() + ", peakQueueDepth=" + getPeakQueueDepth()
+                + ", deviceJobs=" + getDeviceJobs() + ", documentsPrinted=" + getDocumentsPrinted() + ", failed="
+                + getFailed() + ", cancelled=" + getCancelled() + String.format(", avgLatency=%.1f ms", getAverageLatencyMillis())
+                + String.format(", maxLatency=%.1f ms]", getMaxLatencyMillis());
+    }
+
+    private void enterSubmit() {
+        submitting.incrementAndGet();
+        if (closed) {
+            submitting.decrementAndGet();
+            throw new IllegalStateException("Print spooler is closed");
+        }
+    }
+
+    private void work(LegacyPrinter printer) {
+        List<PrintJob> batch = new ArrayList<>(maxBatch);
+        PrintJob carried = null;
+        try {
+            while (true) {
+                PrintJob first = carried != null ? carried : next(queue.poll(50, TimeUnit.MILLISECONDS));
+                carried = null;
+                if (first == null) {
+                    if (closed && submitting.get() == 0 && queue.isEmpty()) {
+                        return;
+                    }
+                    continue;
+                }
+                batch.add(first);
+                int chars = first.getDocument().length();
+                while (chars < coalesceChars && batch.size() < maxBatch) {
+                    PrintJob job = next(queue.poll());
+                    if (job == null) {
+                        break;
+                    }
+                    if (chars + 1 + job.getDocument().length() > coalesceChars) {
+                        carried = job; // too big to join this batch; it starts the next one
+                        break;
+                    }
+                    batch.add(job);
+                    chars += 1 + job.getDocument().length();
+                }
+                print(printer, batch);
+                batch.clear();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Claims the job, skipping cancelled ones; null when the queue runs out
+    private PrintJob next(PrintJob job) {
+        while (job != null && !job.claim()) {
+            job = queue.poll();
+        }
+        return job;
+    }
+
+    private void print(LegacyPrinter printer, List<PrintJob> batch) {
+        String document;
+        if (batch.size() == 1) {
+            document = batch.get(0).getDocument();
+        } else {
+            StringBuilder sb = new StringBuilder();
+            for (PrintJob job : batch) {
+                if (sb.length() > 0) {
+                    sb.append(DOCUMENT_SEPARATOR);
+                }
+                sb.append(job.getDocument());
+            }
+            document = sb.toString();
+        }
+        try {
+            printer.printDocument(document);
+        } catch (RuntimeException e) {
+            failed.add(batch.size());
+            for (PrintJob job : batch) {
+                job.completeExceptionally(e);
+            }
+            return;
+        }
+        deviceJobs.increment();
+        long now = System.nanoTime();
+        for (PrintJob job : batch) {
+            long latency = now - job.getSubmittedNanos();
+            totalLatencyNanos.add(latency);
+            maxLatencyNanos.accumulateAndGet(latency, Math::max);
+            documentsPrinted.increment();
+            job.complete(null);
+        }
+    }
+}
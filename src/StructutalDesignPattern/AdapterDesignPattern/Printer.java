@@ -0,0 +1,5 @@
+package StructutalDesignPattern.AdapterDesignPattern;
+
+interface Printer {
+    void print();
+}
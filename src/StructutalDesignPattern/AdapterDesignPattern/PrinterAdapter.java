@@ -0,0 +1,14 @@
+package StructutalDesignPattern.AdapterDesignPattern;
+
+class PrinterAdapter implements Printer {
+    private LegacyPrinter legacyPrinter;
+
+    public PrinterAdapter(LegacyPrinter legacyPrinter) {
+        this.legacyPrinter = legacyPrinter;
+    }
+
+    @Override
+    public void print() {
+        legacyPrinter.printDocument();
+    }
+}
@@ -0,0 +1,58 @@
+package StructutalDesignPattern.AdapterDesignPattern;
+
+import java.math.BigDecimal;
+
+// Each unit is defined by an exact decimal factor to its dimension's SI unit
+enum Unit {
+    // Mass, in kilograms
+    KILOGRAM(Dimension.MASS, "1"),
+    GRAM(Dimension.MASS, "0.001"),
+    MILLIGRAM(Dimension.MASS, "0.000001"),
+    TONNE(Dimension.MASS, "1000"),
+    POUND(Dimension.MASS, "0.45359237"),
+    OUNCE(Dimension.MASS, "0.028349523125"),
+    STONE(Dimension.MASS, "6.35029318"),
+    SHORT_TON(Dimension.MASS, "907.18474"),
+    LONG_TON(Dimension.MASS, "1016.0469088"),
+    GRAIN(Dimension.MASS, "0.00006479891"),
+    CARAT(Dimension.MASS, "0.0002"),
+
+    // Length, in metres
+    METRE(Dimension.LENGTH, "1"),
+    MILLIMETRE(Dimension.LENGTH, "0.001"),
+    CENTIMETRE(Dimension.LENGTH, "0.01"),
+    KILOMETRE(Dimension.LENGTH, "1000"),
+    INCH(Dimension.LENGTH, "0.0254"),
+    FOOT(Dimension.LENGTH, "0.3048"),
+    YARD(Dimension.LENGTH, "0.9144"),
+    MILE(Dimension.LENGTH, "1609.344"),
+    NAUTICAL_MILE(Dimension.LENGTH, "1852"),
+
+    // Volume, in cubic metres
+    CUBIC_METRE(Dimension.VOLUME, "1"),
+    LITRE(Dimension.VOLUME, "0.001"),
+    MILLILITRE(Dimension.VOLUME, "0.000001"),
+    CUBIC_INCH(Dimension.VOLUME, "0.000016387064"),
+    CUBIC_FOOT(Dimension.VOLUME, "0.028316846592"),
+    US_GALLON(Dimension.VOLUME, "0.003785411784"),
+    US_QUART(Dimension.VOLUME, "0.000946352946"),
+    US_PINT(Dimension.VOLUME, "0.000473176473"),
+    US_FLUID_OUNCE(Dimension.VOLUME, "0.0000295735295625"),
+    IMPERIAL_GALLON(Dimension.VOLUME, "0.00454609");
+
+    private final Dimension dimension;
+    private final BigDecimal toBase;
+
+    Unit(Dimension dimension, String toBase) {
+        this.dimension = dimension;
+        this.toBase = new BigDecimal(toBase);
+    }
+
+    public Dimension getDimension() {
+        return dimension;
+    }
+
+    public BigDecimal exactFactor() {
+        return toBase;
+    }
+}
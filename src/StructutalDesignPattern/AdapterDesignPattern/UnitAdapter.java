@@ -0,0 +1,31 @@
+package StructutalDesignPattern.AdapterDesignPattern;
+
+// A conversion between two units of one dimension: a single multiply
+final class UnitAdapter {
+    private final Unit from;
+    private final Unit to;
+    private final double factor;
+
+    UnitAdapter(Unit from, Unit to, double factor) {
+        this.from = from;
+        this.to = to;
+        this.factor = factor;
+    }
+
+    public double convert(double value) {
+        return value * factor;
+    }
+
+    public Unit getFrom() {
+        return from;
+    }
+
+    public Unit getTo() {
+        return to;
+    }
+
+    @Override
+    public String toString() {
+        return "UnitAdapter [" + from + " -> " + to + ", factor=" + factor + "]";
+    }
+}
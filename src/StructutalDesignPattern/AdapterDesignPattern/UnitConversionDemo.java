@@ -0,0 +1,94 @@
+package StructutalDesignPattern.AdapterDesignPattern;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.DoubleBuffer;
+import java.util.Arrays;
+import java.util.Random;
+
+public class UnitConversionDemo {
+    public static void main(String[] args) {
+        WeightMachine machine = new WeightMachineImpl();
+        WeightMachineAdapter adapter = UnitConversions.weightAdapter(machine);
+        System.out.println("150 lb = " + adapter.getWeightInKg() + " kg");
+        System.out.println("150 lb = " + UnitConversions.adapter(Unit.POUND, Unit.STONE)
+                .convert(machine.getWeightInPounds()) + " st");
+        System.out.println("3 mi = " + UnitConversions.adapter(Unit.MILE, Unit.KILOMETRE).convert(3) + " km");
+        System.out.println("2 US gal = " + UnitConversions.adapter(Unit.US_GALLON, Unit.LITRE).convert(2) + " l");
+
+        // Exact definitions must come out exactly
+        check(UnitConversions.convert(1, Unit.POUND, Unit.KILOGRAM) == 0.45359237, "1 lb = 0.45359237 kg");
+        check(WeightMachineAdapterImpl.KG_PER_POUND == 0.45359237, "adapter uses the exact pound");
+        check(UnitConversions.convert(1, Unit.MILE, Unit.METRE) == 1609.344, "1 mi = 1609.344 m");
+        check(UnitConversions.convert(12, Unit.INCH, Unit.FOOT) == 1, "12 in = 1 ft");
+        check(UnitConversions.convert(16, Unit.OUNCE, Unit.POUND) == 1, "16 oz = 1 lb");
+        check(UnitConversions.convert(14, Unit.POUND, Unit.STONE) == 1, "14 lb = 1 st");
+        check(UnitConversions.convert(231, Unit.CUBIC_INCH, Unit.US_GALLON) == 1, "231 in3 = 1 US gal");
+        check(UnitConversions.convert(1, Unit.LITRE, Unit.MILLILITRE) == 1000, "1 l = 1000 ml");
+        try {
+            UnitConversions.adapter(Unit.POUND, Unit.LITRE);
+            throw new IllegalStateException("Expected a dimension mismatch");
+        } catch (IllegalArgumentException expected) {
+            System.out.println("Rejected: " + expected.getMessage());
+        }
+
+        // Every matrix entry is within half an ulp of the exact ratio, i.e. correctly rounded.
+        // The ratio is recomputed here at 60 digits and the error measured in BigDecimal.
+        MathContext reference = new MathContext(60);
+        for (Unit from : Unit.values()) {
+            for (Unit to : Unit.values()) {
+                if (from.getDimension() == to.getDimension()) {
+                    BigDecimal exactRatio = from.exactFactor().divide(to.exactFactor(), reference);
+                    double factor = UnitConversions.factor(from, to);
+                    BigDecimal error = new BigDecimal(factor).subtract(exactRatio).abs();
+                    BigDecimal halfUlp = new BigDecimal(Math.ulp(factor)).divide(BigDecimal.valueOf(2));
+                    check(error.compareTo(halfUlp) <= 0, from + " -> " + to + " is off by " + error);
+                }
+            }
+        }
+
+        // Direct matrix conversion vs a chain of adapters through intermediate units
+        Random random = new Random(4);
+        Unit[] chain = { Unit.OUNCE, Unit.POUND, Unit.STONE, Unit.KILOGRAM, Unit.GRAM };
+        int samples = 100_000;
+        long directUlps = 0;
+        long chainedUlps = 0;
+        for (int i = 0; i < samples; i++) {
+            double ounces = random.nextInt(1_000_000) / 100.0;
+            double exact = new BigDecimal(ounces).multiply(Unit.OUNCE.exactFactor())
+                    .divide(Unit.GRAM.exactFactor(), MathContext.DECIMAL128).doubleValue();
+            double chained = ounces;
+            for (int step = 0; step + 1 < chain.length; step++) {
+                chained = chained * (chain[step].exactFactor().doubleValue() / chain[step + 1].exactFactor().doubleValue());
+            }
+            directUlps += Math.round(Math.abs(UnitConversions.convert(ounces, Unit.OUNCE, Unit.GRAM) - exact)
+                    / Math.ulp(exact));
+            chainedUlps += Math.round(Math.abs(chained - exact) / Math.ulp(exact));
+        }
+        System.out.printf("oz -> g over %d values: matrix %.2f ulp average error, 4-step adapter chain %.2f ulp%n",
+                samples, directUlps / (double) samples, chainedUlps / (double) samples);
+
+        double[] pounds = new double[8 * 1024 * 1024];
+        for (int i = 0; i < pounds.length; i++) {
+            pounds[i] = 100 + random.nextDouble() * 150;
+        }
+        double[] grams = new double[pounds.length];
+        for (int round = 0; round < 3; round++) {
+            long start = System.nanoTime();
+            UnitConversions.convert(pounds, 0, Unit.POUND, grams, 0, Unit.GRAM, pounds.length);
+            long nanos = System.nanoTime() - start;
+            System.out.printf("batch lb -> g: %.0f M samples/s%n", pounds.length / (nanos / 1e3));
+        }
+        DoubleBuffer kilograms = DoubleBuffer.allocate(4);
+        UnitConversions.convert(DoubleBuffer.wrap(new double[] { 1, 2, 14, 100 }), Unit.POUND, kilograms,
+                Unit.KILOGRAM);
+        System.out.println("lb -> kg via buffers: " + Arrays.toString(kilograms.array()));
+        System.out.println("All exactness checks passed");
+    }
+
+    private static void check(boolean condition, String message) {
+        if (!condition) {
+            throw new IllegalStateException("Check failed: " + message);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package StructutalDesignPattern.AdapterDesignPattern;
+
+import java.math.MathContext;
+import java.nio.DoubleBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+// Conversion engine. At class initialization it builds one dense factor
+// matrix per dimension, where factors[d][i][j] converts unit i of dimension d
+// to unit j. Each entry is the exact decimal ratio of the two unit
+// definitions rounded once to a double, so a conversion is one array lookup
+// and one multiply with no intermediate units and no compounded rounding.
+final class UnitConversions {
+    private static final int[] INDEX_IN_DIMENSION = new int[Unit.values().length];
+    private static final double[][][] FACTORS = new double[Dimension.values().length][][];
+    private static final UnitAdapter[][] ADAPTERS = new UnitAdapter[Unit.values().length][Unit.values().length];
+
+    static {
+        for (Dimension dimension : Dimension.values()) {
+            List<Unit> units = new ArrayList<>();
+            for (Unit unit : Unit.values()) {
+                if (unit.getDimension() == dimension) {
+                    INDEX_IN_DIMENSION[unit.ordinal()] = units.size();
+                    units.add(unit);
+                }
+            }
+            double[][] factors = new double[units.size()][units.size()];
+            for (Unit from : units) {
+                for (Unit to : units) {
+                    double factor = from.exactFactor().divide(to.exactFactor(), MathContext.DECIMAL128).doubleValue();
+                    factors[INDEX_IN_DIMENSION[from.ordinal()]][INDEX_IN_DIMENSION[to.ordinal()]] = factor;
+                    ADAPTERS[from.ordinal()][to.ordinal()] = new UnitAdapter(from, to, factor);
+                }
+            }
+            FACTORS[dimension.ordinal()] = factors;
+        }
+    }
+
+    private UnitConversions() {
+    }
+
+    public static double factor(Unit from, Unit to) {
+        checkDimensions(from, to);
+        return FACTORS[from.getDimension().ordinal()][INDEX_IN_DIMENSION[from.ordinal()]][INDEX_IN_DIMENSION[to
+                .ordinal()]];
+    }
+
+    public static double convert(double value, Unit from, Unit to) {
+        return value * factor(from, to);
+    }
+
+    // Adapters are created once at startup and shared
+    public static UnitAdapter adapter(Unit from, Unit to) {
+        checkDimensions(from, to);
+        return ADAPTERS[from.ordinal()][to.ordinal()];
+    }
+
+    // Adapts a pound-based WeightMachine through the matrix. WeightMachineAdapter
+    // promises kilograms, so other units go through adapter(Unit.POUND, to).
+    public static WeightMachineAdapter weightAdapter(WeightMachine machine) {
+        UnitAdapter adapter = adapter(Unit.POUND, Unit.KILOGRAM);
+        return () -> adapter.convert(machine.getWeightInPounds());
+    }
+
+    public static void convert(double[] values, int fromIndex, Unit from, double[] out, int toIndex, Unit to,
+            int length) {
+        Objects.checkFromIndexSize(fromIndex, length, values.length);
+        Objects.checkFromIndexSize(toIndex, length, out.length);
+        double factor = factor(from, to);
+        for (int i = 0; i < length; i++) {
+            out[toIndex + i] = values[fromIndex + i] * factor;
+        }
+    }
+
+    // Converts values.remaining() values and advances both buffers
+    public static void convert(DoubleBuffer values, Unit from, DoubleBuffer out, Unit to) {
+        if (out.remaining() < values.remaining()) {
+            throw new IllegalArgumentException("Output has room for " + out.remaining() + " of "
+                    + values.remaining() + " values");
+        }
+        double factor = factor(from, to);
+        while (values.hasRemaining()) {
+            out.put(values.get() * factor);
+        }
+    }
+
+    private static void checkDimensions(Unit from, Unit to) {
+        if (from.getDimension() != to.getDimension()) {
+            throw new IllegalArgumentException("Cannot convert " + from + " (" + from.getDimension() + ") to " + to
+                    + " (" + to.getDimension() + ")");
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package StructutalDesignPattern.AdapterDesignPattern;
+
+// Existing interface returning weight in pounds
+interface WeightMachine {
+    double getWeightInPounds();
+}
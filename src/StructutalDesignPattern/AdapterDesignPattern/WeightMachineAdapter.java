@@ -0,0 +1,6 @@
+package StructutalDesignPattern.AdapterDesignPattern;
+
+// Target interface expected by client returning weight in kgs
+interface WeightMachineAdapter {
+    double getWeightInKg();
+}
@@ -0,0 +1,19 @@
+package StructutalDesignPattern.AdapterDesignPattern;
+
+class WeightMachineAdapterImpl implements WeightMachineAdapter {
+    // 1 pound = 0.45359237 kg exactly, by definition
+    static final double KG_PER_POUND = UnitConversions.factor(Unit.POUND, Unit.KILOGRAM);
+
+    private final WeightMachine weightMachine;
+
+    public WeightMachineAdapterImpl(WeightMachine weightMachine) {
+        this.weightMachine = weightMachine;
+    }
+
+    @Override
+    public double getWeightInKg() {
+        double weightInPounds = weightMachine.getWeightInPounds();
+        // Convert pounds to kilograms
+        return weightInPounds * KG_PER_POUND;
+    }
+}
@@ -0,0 +1,8 @@
+package StructutalDesignPattern.AdapterDesignPattern;
+
+class WeightMachineImpl implements WeightMachine {
+    @Override
+    public double getWeightInPounds() {
+        return 150; // example weight in pounds
+    }
+}